@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.benchmark;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.argument.ArgumentType;
+import me.hippo.api.lumos.builder.CommandBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+
+/**
+ * Generates the command trees the benchmarks run against.
+ * <p>
+ *     Every root {@code root<i>} has a spine of {@code depth} nodes, the kind of the spine nodes depends on the {@link Shape}.
+ *     Every spine node also has a leaf label next to the spine, so every level has some fan-out,
+ *     and the last spine node is the one that executes.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public enum CommandTrees {
+    ;
+
+    /**
+     * The amount of inputs generated, a power of two so they can be picked with a mask.
+     */
+    public static final int INPUTS = 1024;
+
+    /**
+     * What the spine nodes below a root are.
+     */
+    public enum Shape {
+        LABELS,
+        ARGUMENTS,
+        MIXED
+    }
+
+    /**
+     * Creates a dispatcher with the generated commands registered.
+     *
+     * @param roots  The amount of roots.
+     * @param depth  The amount of nodes from a root to its executing node, the root included.
+     * @param shape  The shape.
+     * @return  The dispatcher.
+     */
+    public static CommandDispatcher dispatcher(int roots, int depth, Shape shape) {
+        List<CommandBuilder> commands = new ArrayList<>(roots);
+        for (int root = 0; root < roots; root++) {
+            commands.add(command(root, depth, shape));
+        }
+
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.registerAll(commands);
+        return commandDispatcher;
+    }
+
+    /**
+     * Creates the command of a root.
+     *
+     * @param root  The root index.
+     * @param depth  The depth.
+     * @param shape  The shape.
+     * @return  The builder.
+     */
+    public static CommandBuilder command(int root, int depth, Shape shape) {
+        CommandBuilder[] spine = new CommandBuilder[depth];
+        spine[0] = label("root" + root);
+        for (int level = 1; level < depth; level++) {
+            spine[level] = isLabel(level, shape) ? label("l" + level) : argument("a" + level, argumentType(level));
+        }
+
+        spine[depth - 1].executes(commandContext -> {});
+        for (int level = depth - 2; level >= 0; level--) {
+            spine[level].then(label("d" + level).executes(commandContext -> {})).then(spine[level + 1]);
+        }
+        return spine[0];
+    }
+
+    /**
+     * Generates inputs that execute, every one for a random root.
+     *
+     * @param roots  The amount of roots.
+     * @param depth  The depth.
+     * @param shape  The shape.
+     * @return  The inputs.
+     */
+    public static String[] validInputs(int roots, int depth, Shape shape) {
+        Random random = new Random(roots * 31L + depth);
+        String[] inputs = new String[INPUTS];
+        for (int i = 0; i < inputs.length; i++) {
+            StringBuilder input = new StringBuilder("root").append(random.nextInt(roots));
+            for (int level = 1; level < depth; level++) {
+                input.append(' ').append(isLabel(level, shape) ? "l" + level : argumentValue(level, random));
+            }
+            inputs[i] = input.toString();
+        }
+        return inputs;
+    }
+
+    /**
+     * Generates inputs that don't match any command.
+     *
+     * @return  The inputs.
+     */
+    public static String[] notFoundInputs() {
+        String[] inputs = new String[INPUTS];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = "missing" + i + " l1 l2";
+        }
+        return inputs;
+    }
+
+    /**
+     * Generates inputs that match a command but have a token too many.
+     *
+     * @param roots  The amount of roots.
+     * @param depth  The depth.
+     * @param shape  The shape.
+     * @return  The inputs.
+     */
+    public static String[] syntaxErrorInputs(int roots, int depth, Shape shape) {
+        String[] inputs = validInputs(roots, depth, shape);
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] += " extra";
+        }
+        return inputs;
+    }
+
+    private static boolean isLabel(int level, Shape shape) {
+        return shape == Shape.LABELS || shape == Shape.MIXED && (level & 1) == 1;
+    }
+
+    private static ArgumentType<?> argumentType(int level) {
+        switch (level % 3) {
+            case 0:
+                return number();
+            case 1:
+                return bool();
+            default:
+                return string();
+        }
+    }
+
+    private static String argumentValue(int level, Random random) {
+        switch (level % 3) {
+            case 0:
+                return Integer.toString(random.nextInt(10_000));
+            case 1:
+                return random.nextBoolean() ? "true" : "off";
+            default:
+                return "word" + random.nextInt(100);
+        }
+    }
+}
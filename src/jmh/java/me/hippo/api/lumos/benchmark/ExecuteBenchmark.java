@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.benchmark;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.context.ParseResults;
+import me.hippo.api.lumos.exception.CommandException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing and executing commands, and how fast bad input is turned down.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ExecuteBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int roots;
+
+    @Param({"1", "4", "8"})
+    private int depth;
+
+    @Param({"LABELS", "ARGUMENTS", "MIXED"})
+    private CommandTrees.Shape shape;
+
+    private CommandDispatcher commandDispatcher;
+
+    private String[] validInputs;
+
+    private String[] notFoundInputs;
+
+    private String[] syntaxErrorInputs;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        commandDispatcher = CommandTrees.dispatcher(roots, depth, shape);
+        validInputs = CommandTrees.validInputs(roots, depth, shape);
+        notFoundInputs = CommandTrees.notFoundInputs();
+        syntaxErrorInputs = CommandTrees.syntaxErrorInputs(roots, depth, shape);
+    }
+
+    @Benchmark
+    public void execute() throws CommandException {
+        commandDispatcher.execute(validInputs[next++ & (CommandTrees.INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public ParseResults parse() throws CommandException {
+        return commandDispatcher.parse(validInputs[next++ & (CommandTrees.INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public CommandException notFound() {
+        return fail(notFoundInputs[next++ & (CommandTrees.INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public CommandException syntaxError() {
+        return fail(syntaxErrorInputs[next++ & (CommandTrees.INPUTS - 1)]);
+    }
+
+    private CommandException fail(String input) {
+        try {
+            commandDispatcher.execute(input);
+            throw new IllegalStateException("Executed " + input);
+        }catch (CommandException e) {
+            return e;
+        }
+    }
+}
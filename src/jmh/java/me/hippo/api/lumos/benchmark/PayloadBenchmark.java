@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.benchmark;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.context.ParseResults;
+import me.hippo.api.lumos.exception.CommandException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+
+/**
+ * Measures parsing and executing commands that carry a long payload, as a greedy string and as a quoted string.
+ * <p>
+ *     The payload is {@code length} chars of words and runs of whitespace, the escaped one has an escaped quote every 64 chars.
+ *     Both types scan the payload once, so the time should grow linearly with the length.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PayloadBenchmark {
+
+    @Param({"1024", "65536"})
+    private int length;
+
+    private CommandDispatcher commandDispatcher;
+
+    private String greedyInput;
+
+    private String quotedInput;
+
+    private String escapedInput;
+
+    @Setup
+    public void setup() {
+        commandDispatcher = new CommandDispatcher();
+        commandDispatcher.register(label("broadcast").then(argument("message", greedy())
+                .executes(commandContext -> commandContext.getString("message"))));
+        commandDispatcher.register(label("announce").then(argument("message", quoted())
+                .executes(commandContext -> commandContext.getString("message"))));
+
+        StringBuilder payload = new StringBuilder(length);
+        StringBuilder escaped = new StringBuilder(length);
+        for (int i = 0; payload.length() < length; i++) {
+            String word = i % 5 == 0 ? "payload  " : "word ";
+            payload.append(word);
+            escaped.append(word);
+            if(i % 10 == 9) {
+                escaped.append("\\\" ");
+            }
+        }
+        greedyInput = "broadcast " + payload;
+        quotedInput = "announce \"" + payload + '"';
+        escapedInput = "announce \"" + escaped + '"';
+    }
+
+    @Benchmark
+    public ParseResults parseGreedy() throws CommandException {
+        return commandDispatcher.parse(greedyInput);
+    }
+
+    @Benchmark
+    public ParseResults parseQuoted() throws CommandException {
+        return commandDispatcher.parse(quotedInput);
+    }
+
+    @Benchmark
+    public ParseResults parseEscaped() throws CommandException {
+        return commandDispatcher.parse(escapedInput);
+    }
+
+    @Benchmark
+    public void executeGreedy() throws CommandException {
+        commandDispatcher.execute(greedyInput);
+    }
+
+    @Benchmark
+    public void executeEscaped() throws CommandException {
+        commandDispatcher.execute(escapedInput);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.benchmark;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.builder.CommandBuilder;
+import me.hippo.api.lumos.tree.CommandTree;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures registering commands into a dispatcher that already has {@code roots} commands, up to the next read.
+ * <p>
+ *     Every command is merged into the one registered before it, which has the same shape, so the amount of nodes stays the same.
+ *     {@link #registerOneByOne()} and {@link #registerAll()} compare registering {@code batch} commands one by one
+ *     with registering them all at once, both followed by the read that compiles the snapshot.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RegisterBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int roots;
+
+    @Param({"1", "4", "8"})
+    private int depth;
+
+    @Param({"MIXED"})
+    private CommandTrees.Shape shape;
+
+    @Param({"1000"})
+    private int batch;
+
+    private CommandDispatcher commandDispatcher;
+
+    private CommandBuilder command;
+
+    private List<CommandBuilder> commands;
+
+    @Setup
+    public void setup() {
+        commandDispatcher = CommandTrees.dispatcher(roots, depth, shape);
+        command = CommandTrees.command(0, depth, shape);
+        commands = new ArrayList<>(batch);
+        for (int root = 0; root < batch; root++) {
+            commands.add(CommandTrees.command(root % roots, depth, shape));
+        }
+    }
+
+    @Benchmark
+    public CommandTree register() {
+        commandDispatcher.register(command);
+        return commandDispatcher.getCommandTree();
+    }
+
+    @Benchmark
+    public CommandTree registerOneByOne() {
+        for (CommandBuilder command : commands) {
+            commandDispatcher.register(command);
+        }
+        return commandDispatcher.getCommandTree();
+    }
+
+    @Benchmark
+    public CommandTree registerAll() {
+        commandDispatcher.registerAll(commands);
+        return commandDispatcher.getCommandTree();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.benchmark;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.builder.CommandBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.label;
+
+/**
+ * Measures starting up, registering {@code commands} commands into an empty dispatcher in one go.
+ * <p>
+ *     The commands are spread over {@code roots} plugin roots, so every root is merged out of {@code commands / roots} commands.
+ *     A single root is the widest fan-out, all the commands become children of one merged node.
+ *     {@link #buildAndRegisterAll()} and {@link #registerLazily()} compare building every command up front with
+ *     supplying the commands of each root lazily, which builds none of them until the root is used.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StartupBenchmark {
+
+    @Param({"50000"})
+    private int commands;
+
+    @Param({"1", "100", "50000"})
+    private int roots;
+
+    @Param({"4"})
+    private int depth;
+
+    @Param({"MIXED"})
+    private CommandTrees.Shape shape;
+
+    private List<CommandBuilder> builders;
+
+    @Setup
+    public void setup() {
+        builders = new ArrayList<>(commands);
+        for (int command = 0; command < commands; command++) {
+            builders.add(label("plugin" + command % roots).then(CommandTrees.command(command, depth, shape)));
+        }
+    }
+
+    @Benchmark
+    public CommandDispatcher registerAll() {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.registerAll(builders);
+        return commandDispatcher;
+    }
+
+    @Benchmark
+    public CommandDispatcher buildAndRegisterAll() {
+        List<CommandBuilder> builders = new ArrayList<>(commands);
+        for (int command = 0; command < commands; command++) {
+            builders.add(label("plugin" + command % roots).then(CommandTrees.command(command, depth, shape)));
+        }
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.registerAll(builders);
+        return commandDispatcher;
+    }
+
+    @Benchmark
+    public CommandDispatcher registerLazily() {
+        List<CommandBuilder> builders = new ArrayList<>(roots);
+        for (int root = 0; root < Math.min(roots, commands); root++) {
+            int first = root;
+            builders.add(label("plugin" + root).thenLazily(() -> {
+                List<CommandBuilder> children = new ArrayList<>();
+                for (int command = first; command < commands; command += roots) {
+                    children.add(CommandTrees.command(command, depth, shape));
+                }
+                return children;
+            }));
+        }
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.registerAll(builders);
+        return commandDispatcher;
+    }
+}
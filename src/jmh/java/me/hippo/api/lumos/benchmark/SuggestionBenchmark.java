@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.benchmark;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures suggesting roots for prefixes of different lengths, and suggesting below a root.
+ * <p>
+ *     Short prefixes match a lot of roots, so the limit decides how much work there is.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SuggestionBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int roots;
+
+    @Param({"1", "4", "8"})
+    private int depth;
+
+    @Param({"MIXED"})
+    private CommandTrees.Shape shape;
+
+    @Param({"1", "5", "8"})
+    private int prefixLength;
+
+    @Param({"10"})
+    private int limit;
+
+    private CommandDispatcher commandDispatcher;
+
+    private String[] rootPrefixes;
+
+    private String[] nestedPrefixes;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        commandDispatcher = CommandTrees.dispatcher(roots, depth, shape);
+
+        Random random = new Random(roots);
+        String[] validInputs = CommandTrees.validInputs(roots, depth, shape);
+        rootPrefixes = new String[CommandTrees.INPUTS];
+        nestedPrefixes = new String[CommandTrees.INPUTS];
+        for (int i = 0; i < rootPrefixes.length; i++) {
+            String root = "root" + random.nextInt(roots);
+            rootPrefixes[i] = root.substring(0, Math.min(prefixLength, root.length()));
+            nestedPrefixes[i] = validInputs[i].substring(0, validInputs[i].lastIndexOf(' ') + 1);
+        }
+    }
+
+    @Benchmark
+    public List<String> suggestRoots() {
+        return commandDispatcher.getSuggestions(rootPrefixes[next++ & (CommandTrees.INPUTS - 1)], limit);
+    }
+
+    @Benchmark
+    public List<String> suggestNested() {
+        return commandDispatcher.getSuggestions(nestedPrefixes[next++ & (CommandTrees.INPUTS - 1)], limit);
+    }
+}
@@ -16,150 +16,977 @@
 
 package me.hippo.api.lumos;
 
+import me.hippo.api.lumos.batch.BatchResult;
 import me.hippo.api.lumos.builder.CommandBuilder;
-import me.hippo.api.lumos.exception.CommandSyntaxException;
-import me.hippo.api.lumos.context.ArgumentValueWrapper;
+import me.hippo.api.lumos.builder.DispatcherBuilder;
+import me.hippo.api.lumos.cache.ParseCache;
 import me.hippo.api.lumos.context.CommandContext;
+import me.hippo.api.lumos.context.ParseResults;
+import me.hippo.api.lumos.exception.CommandNotFoundException;
+import me.hippo.api.lumos.exception.CommandRejectedException;
+import me.hippo.api.lumos.exception.CommandSyntaxException;
+import me.hippo.api.lumos.exception.StaleSnapshotException;
 import me.hippo.api.lumos.exception.CommandException;
+import me.hippo.api.lumos.limit.RateLimiter;
+import me.hippo.api.lumos.metrics.CommandMetrics;
 import me.hippo.api.lumos.node.CommandNode;
+import me.hippo.api.lumos.source.CommandSource;
+import me.hippo.api.lumos.suggestion.SuggestionRanking;
+import me.hippo.api.lumos.util.ExecutorUtil;
+import me.hippo.api.lumos.util.NodeUtil;
+import me.hippo.api.lumos.tree.CommandTree;
+import me.hippo.api.lumos.tree.TreeSnapshot;
+import me.hippo.api.lumos.tree.Visibility;
 
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
+ * Registers, parses and executes commands.
+ * <p>
+ *     The registered commands are published as an immutable {@link CommandTree} snapshot.
+ *     Parsing, executing and suggesting always see a whole snapshot. Registering only merges the commands into the registered roots,
+ *     the first read after it compiles them into a new snapshot and swaps it in atomically, and that is the only read that waits.
+ * </p>
+ *
  * @author Hippo
- * @version 1.1.0, 07/25/2019
+ * @version 1.2.0, 10/18/2026
  * @since 1.0.0
  */
-public final class CommandDispatcher {
+public final class CommandDispatcher implements AutoCloseable {
 
     /**
-     * A map to store all our {@link CommandNode}s.
+     * The lock registrations are serialized with, readers never take it.
      */
-    private static final Map<String, CommandNode> COMMAND_NODES = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Object registrationLock = new Object();
+
+    /**
+     * The current snapshot of the registered commands, see {@link #getSnapshot()}.
+     */
+    private volatile CommandTree commandTree;
+
+    /**
+     * All the registered roots by folded name, the ones that aren't compiled yet included, guarded by the {@link #registrationLock}.
+     */
+    private final Map<String, CommandNode> roots = new HashMap<>();
+
+    /**
+     * If commands were registered since the {@link #commandTree} was compiled.
+     */
+    private volatile boolean stale;
+
+    /**
+     * The ranking suggestions are picked with.
+     */
+    private final SuggestionRanking suggestionRanking;
+
+    /**
+     * The parse cache, {@code null} if parses aren't cached.
+     */
+    private final ParseCache parseCache;
+
+    /**
+     * The lock the default executor is made and shut down with.
+     */
+    private final Object executorLock = new Object();
+
+    /**
+     * The executor asynchronous commands run on, {@code null} until the first one if none was given, see {@link #getExecutor()}.
+     */
+    private volatile Executor executor;
+
+    /**
+     * If the {@link #executor} is made by the dispatcher, and so shut down by it.
+     */
+    private final boolean ownsExecutor;
+
+    /**
+     * If new asynchronous commands are turned down, see {@link #shutdown()}.
+     */
+    private volatile boolean shutdown;
+
+    /**
+     * Completed once the dispatcher is shut down and its last asynchronous command is over.
+     */
+    private final CompletableFuture<Void> terminated = new CompletableFuture<>();
+
+    /**
+     * The metrics commands are recorded in.
+     */
+    private final CommandMetrics metrics;
+
+    /**
+     * If the {@link #metrics} are enabled, nothing is timed otherwise.
+     */
+    private final boolean timed;
+
+    /**
+     * The rate limiter, {@code null} if commands aren't limited.
+     */
+    private final RateLimiter rateLimiter;
+
+    /**
+     * The most asynchronous commands that can be pending.
+     */
+    private final int maxPendingCommands;
+
+    /**
+     * The amount of pending asynchronous commands.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * The completion of the last asynchronous command of every source that has one pending.
+     */
+    private final ConcurrentMap<CommandSource, CompletableFuture<Void>> sourceTails = new ConcurrentHashMap<>();
+
+    /**
+     * What every source that executed or asked for suggestions can see, see {@link #getVisibility(CommandTree, CommandSource)}.
+     */
+    private final ConcurrentMap<CommandSource, Visibility> visibilities = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link CommandDispatcher} with the default settings.
+     */
+    public CommandDispatcher() {
+        this(new DispatcherBuilder());
+    }
+
+    /**
+     * Creates a new {@link CommandDispatcher} with the settings of a {@link DispatcherBuilder}.
+     *
+     * @param dispatcherBuilder  The builder.
+     */
+    public CommandDispatcher(DispatcherBuilder dispatcherBuilder) {
+        this.suggestionRanking = dispatcherBuilder.getSuggestionRanking();
+        this.parseCache = dispatcherBuilder.getParseCacheSize() > 0
+                ? new ParseCache(dispatcherBuilder.getParseCacheSize(), dispatcherBuilder.getEvictionPolicy())
+                : null;
+        this.executor = dispatcherBuilder.getExecutor();
+        this.ownsExecutor = executor == null;
+        this.metrics = dispatcherBuilder.getMetrics();
+        this.timed = metrics.isEnabled();
+        this.rateLimiter = dispatcherBuilder.getRateLimiter();
+        this.maxPendingCommands = dispatcherBuilder.getMaxPendingCommands();
+        publish(CommandTree.compile(Collections.emptyList(), this::expand));
+    }
+
+    /**
+     * Creates a new {@link DispatcherBuilder}.
+     *
+     * @return  The builder.
+     */
+    public static DispatcherBuilder builder() {
+        return new DispatcherBuilder();
+    }
 
     /**
      * Registers a command.
      * <p>
      *     You use the {@link CommandBuilder} to create the command.
+     *     A command with the same name as a registered one is merged into it, see {@link #registerAll(Collection)}.
+     *     The snapshot is compiled again by the first read after registering, not by every registration.
+     *     Merging into a registered root still goes over all of its children though, so many commands should be registered
+     *     with {@link #registerAll(Collection)}, which builds them in parallel and merges every root once.
      * </p>
      *
      * @param commandBuilder  The builder.
+     * @throws IllegalArgumentException  If the command is invalid or conflicts with a registered one.
+     */
+    public void register(CommandBuilder commandBuilder) {
+        registerAll(Collections.singletonList(commandBuilder));
+    }
+
+    /**
+     * Registers commands, publishing them all at once in a single new snapshot.
+     * <p>
+     *     The snapshot is compiled by the first read after registering, so nothing is compiled until the commands are used.
+     *     The commands are built and validated in parallel, and nothing is registered if any of them is invalid.
+     *     Commands sharing a root name, with each other or with a registered command, are merged structurally
+     *     in the order they were given: labels and arguments they have in common are merged the same way,
+     *     the rest of their children are kept side by side, and where both have a command the later one wins.
+     *     That way several plugins can add subcommands under the same root.
+     *     Different roots are merged in parallel, the registered nodes themselves are never changed.
+     * </p>
+     *
+     * @param commandBuilders  The builders.
+     * @throws IllegalArgumentException  If a command is invalid, or if two arguments with the same path have different types.
+     * @see NodeUtil#merge(List)
+     */
+    public void registerAll(Collection<CommandBuilder> commandBuilders) {
+        Map<String, List<CommandNode>> added = build(commandBuilders);
+        synchronized (registrationLock) {
+            for (CommandNode root : merge(roots, added)) {
+                roots.put(root.getKey(), root);
+            }
+            stale = true;
+        }
+    }
+
+    /**
+     * Builds and validates commands in parallel, grouped by root name.
+     *
+     * @param commandBuilders  The builders.
+     * @return  The built roots by folded name, in the order they were given.
+     * @throws IllegalArgumentException  If a command is invalid.
+     */
+    private static Map<String, List<CommandNode>> build(Collection<CommandBuilder> commandBuilders) {
+        return commandBuilders.parallelStream()
+                .map(commandBuilder -> NodeUtil.validate(commandBuilder.build()))
+                .collect(Collectors.groupingBy(commandNode -> commandNode.getKey(), LinkedHashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * Merges built commands into the registered roots, without changing them.
+     *
+     * @param roots  The registered roots by folded name.
+     * @param added  The built roots by folded name, see {@link #build(Collection)}.
+     * @return  The merged roots, that replace the registered ones with the same names.
+     * @throws IllegalArgumentException  If two arguments with the same path have different types.
+     */
+    private static List<CommandNode> merge(Map<String, CommandNode> roots, Map<String, List<CommandNode>> added) {
+        return added.entrySet().parallelStream().map(entry -> {
+            CommandNode registered = roots.get(entry.getKey());
+            if(registered == null) {
+                return NodeUtil.merge(entry.getValue());
+            }
+            List<CommandNode> versions = new ArrayList<>(entry.getValue().size() + 1);
+            versions.add(registered);
+            versions.addAll(entry.getValue());
+            return NodeUtil.merge(versions);
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the current snapshot, compiling the commands registered since the last one first.
+     *
+     * @return  The snapshot.
      */
-    public static void register(CommandBuilder commandBuilder) {
-        CommandNode commandNode = commandBuilder.build();
-        COMMAND_NODES.put(commandNode.getName(), commandNode);
+    private CommandTree getSnapshot() {
+        if(stale) {
+            synchronized (registrationLock) {
+                if(stale) {
+                    return compile();
+                }
+            }
+        }
+        return commandTree;
+    }
+
+    /**
+     * Compiles and publishes all the registered roots.
+     * <p>
+     *     Must be called holding the {@link #registrationLock}.
+     * </p>
+     *
+     * @return  The snapshot.
+     */
+    private CommandTree compile() {
+        CommandTree commandTree = publish(CommandTree.compile(new ArrayList<>(roots.values()), this::expand));
+        stale = false;
+        return commandTree;
+    }
+
+    /**
+     * Publishes a snapshot with the children of a lazy node that was just materialized.
+     * <p>
+     *     Snapshots that were already replaced go on with the current one, which is compiled again only if it is the one being expanded
+     *     or if commands were registered since.
+     * </p>
+     *
+     * @param commandTree  The snapshot the lazy node was materialized in.
+     * @return  The snapshot parsing and suggesting go on with.
+     */
+    private CommandTree expand(CommandTree commandTree) {
+        synchronized (registrationLock) {
+            if(this.commandTree != commandTree && !stale) {
+                return this.commandTree;
+            }
+            return compile();
+        }
+    }
+
+    /**
+     * Makes a snapshot the current one, preparing whatever is kept per snapshot first.
+     * <p>
+     *     Must be called holding the {@link #registrationLock}, or from the constructor.
+     * </p>
+     *
+     * @param commandTree  The snapshot.
+     * @return  The snapshot.
+     */
+    private CommandTree publish(CommandTree commandTree) {
+        suggestionRanking.prepare(commandTree);
+        metrics.prepare(commandTree);
+        this.commandTree = commandTree;
+        if(parseCache != null) {
+            parseCache.invalidateAll();
+        }
+        return commandTree;
+    }
+
+    /**
+     * Replaces the registered commands with a stored snapshot, or registers them the regular way if the snapshot is stale.
+     * <p>
+     *     Loading a snapshot skips building and compiling the commands, only the handlers are bound again by path.
+     *     If there is no snapshot, or it was written with another fingerprint, or its executable paths aren't exactly
+     *     the ones of the handlers, the commands are registered instead and a fresh snapshot is written for the next start.
+     * </p>
+     *
+     * @param snapshot  The snapshot file.
+     * @param fingerprint  Whatever identifies the registered commands, like a hash of the versions of the plugins that registered them.
+     * @param handlers  The commands, keyed by the path of the node they are executed at, like {@code "hack tool ip ping <ip>"}.
+     * @param commands  Supplies the commands to register when the snapshot is stale, they should execute the same handlers.
+     * @return  If the snapshot was loaded, {@code false} if the commands were registered.
+     * @throws IOException  If the snapshot can't be read or written.
+     * @see TreeSnapshot
+     */
+    public boolean loadSnapshot(Path snapshot, long fingerprint, Map<String, ? extends Command> handlers,
+                                Supplier<? extends Collection<CommandBuilder>> commands) throws IOException {
+        CommandTree loaded;
+        try {
+            loaded = TreeSnapshot.read(snapshot, fingerprint, handlers);
+        }catch (NoSuchFileException | StaleSnapshotException e) {
+            loaded = null;
+        }
+
+        if(loaded != null) {
+            synchronized (registrationLock) {
+                replace(loaded);
+            }
+            return true;
+        }
+
+        CommandTree registered = CommandTree.compile(merge(Collections.emptyMap(), build(commands.get())), this::expand);
+        synchronized (registrationLock) {
+            replace(registered);
+        }
+        TreeSnapshot.write(registered, fingerprint, snapshot);
+        return false;
+    }
+
+    /**
+     * Replaces all the registered roots with the ones of a snapshot, and publishes it.
+     * <p>
+     *     Must be called holding the {@link #registrationLock}.
+     * </p>
+     *
+     * @param commandTree  The snapshot.
+     */
+    private void replace(CommandTree commandTree) {
+        roots.clear();
+        for (CommandNode root : commandTree.getRoots()) {
+            roots.put(root.getKey(), root);
+        }
+        publish(commandTree);
+        stale = false;
+    }
+
+    /**
+     * Writes a snapshot of the registered commands.
+     *
+     * @param snapshot  The snapshot file.
+     * @param fingerprint  Whatever identifies the registered commands.
+     * @throws IOException  If the snapshot can't be written.
+     * @see #loadSnapshot(Path, long, Map, Supplier)
+     */
+    public void saveSnapshot(Path snapshot, long fingerprint) throws IOException {
+        TreeSnapshot.write(getSnapshot(), fingerprint, snapshot);
     }
 
     /**
      * Parses a command then executes it.
+     * <p>
+     *     The command isn't executed for a source, so the requirements of the nodes don't apply.
+     * </p>
      *
      * @param input  The command input.
-     * @throws CommandSyntaxException  If the command usage is invalid, or if the command doesn't even exist.
+     * @throws CommandNotFoundException  If the command doesn't exist.
+     * @throws CommandSyntaxException  If the command usage is invalid.
+     */
+    public void execute(CharSequence input) throws CommandException {
+        execute(parse(input));
+    }
+
+    /**
+     * Executes an already parsed command.
+     *
+     * @param parseResults  The parsed command.
+     * @throws CommandSyntaxException  If the node the command resolved to isn't executable.
      */
-    public static void execute(String input) throws CommandException {
-        CommandContext commandContext = new CommandContext(input);
-        Scanner scanner = new Scanner(input);
-        String commandName = scanner.next();
+    public void execute(ParseResults parseResults) throws CommandException {
+        run(parseResults, parseResults.getContext());
+    }
 
-        while (COMMAND_NODES.get(commandName) == null) {
-            commandName = commandName.concat(" ").concat(scanner.next());
+    /**
+     * Parses a command then executes it for a source, unless the source or the command is over its rate limit.
+     * <p>
+     *     The source's limit is checked before the input is even parsed. A rejection is only a return value,
+     *     so turning down a flood of commands costs next to nothing.
+     *     The input is parsed for what the source can see, see {@link #parse(CommandSource, CharSequence)}.
+     * </p>
+     *
+     * @param source  The source, see {@link CommandContext#getSource()}.
+     * @param input  The command input.
+     * @return  {@link ExecutionStatus#EXECUTED}, or {@link ExecutionStatus#RATE_LIMITED} if the command was turned down.
+     * @throws CommandNotFoundException  If the command doesn't exist or is hidden from the source.
+     * @throws CommandSyntaxException  If the command usage is invalid.
+     */
+    public ExecutionStatus execute(CommandSource source, CharSequence input) throws CommandException {
+        if(rateLimiter != null && !rateLimiter.tryAcquire(source)) {
+            return ExecutionStatus.RATE_LIMITED;
         }
+        return executeLimited(source, parse(source, input));
+    }
 
-        CommandNode commandNode = COMMAND_NODES.get(commandName);
+    /**
+     * Executes an already parsed command for a source, unless the source or the command is over its rate limit.
+     *
+     * @param source  The source, see {@link CommandContext#getSource()}.
+     * @param parseResults  The parsed command.
+     * @return  {@link ExecutionStatus#EXECUTED}, or {@link ExecutionStatus#RATE_LIMITED} if the command was turned down.
+     * @throws CommandNotFoundException  If any node on the path of the command is hidden from the source.
+     * @throws CommandSyntaxException  If the node the command resolved to isn't executable.
+     */
+    public ExecutionStatus execute(CommandSource source, ParseResults parseResults) throws CommandException {
+        if(rateLimiter != null && !rateLimiter.tryAcquire(source)) {
+            return ExecutionStatus.RATE_LIMITED;
+        }
+        Visibility visibility = getVisibility(parseResults.getTree(), source);
+        if(visibility != null && !visibility.canSeePath(parseResults.getNodeId())) {
+            throw new CommandNotFoundException("Command for input " + parseResults.getContext().getInput() + " not found.");
+        }
+        return executeLimited(source, parseResults);
+    }
 
-        if (scanner.hasNext()) {
-            String argument = scanner.next().trim();
+    /**
+     * Executes a parsed command for a source whose rate limit was already checked, unless its path is over its limit.
+     *
+     * @param source  The source.
+     * @param parseResults  The parsed command.
+     * @return  The status.
+     * @throws CommandSyntaxException  If the node the command resolved to isn't executable.
+     */
+    private ExecutionStatus executeLimited(CommandSource source, ParseResults parseResults) throws CommandException {
+        if(rateLimiter != null && !rateLimiter.tryAcquire(parseResults)) {
+            return ExecutionStatus.RATE_LIMITED;
+        }
+        run(parseResults, parseResults.getContext().withSource(source));
+        return ExecutionStatus.EXECUTED;
+    }
 
-            boolean next = false;
-            do {
-                if(argument.isEmpty()) {
-                    argument = scanner.next();
-                }
+    /**
+     * Runs the command of a parse.
+     *
+     * @param parseResults  The parsed command.
+     * @param context  The context to run it with.
+     * @throws CommandSyntaxException  If the node the command resolved to isn't executable.
+     */
+    private void run(ParseResults parseResults, CommandContext context) throws CommandException {
+        Command command = parseResults.getCommand();
 
-                if(next) {
-                    argument = argument.concat(" ").concat(scanner.next()).trim();
-                    next = false;
-                }
+        if(command == null) {
+            if(timed) {
+                metrics.recordSyntaxError();
+            }
+            throw new CommandSyntaxException("Invalid command usage of " + parseResults.getContext().getInput());
+        }
 
-                String argumentName = argument;
-                for (String key : commandContext.getArguments().keySet()) {
-                    ArgumentValueWrapper argumentValueWrapper = commandContext.getArguments().get(key);
+        suggestionRanking.recordUsage(parseResults);
+        if(!timed) {
+            command.execute(context);
+            return;
+        }
 
-                    if(argumentValueWrapper.getValueString().equalsIgnoreCase(argument)) {
-                        argumentName = key;
-                    }
-                }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            command.execute(context);
+            failed = false;
+        }finally {
+            metrics.recordExecution(parseResults, System.nanoTime() - start, failed);
+        }
+    }
 
-                CommandNode child = commandNode.getChild(argumentName);
+    /**
+     * Executes a batch of commands in order, without stopping at failures.
+     *
+     * @param inputs  The command inputs.
+     * @return  The outcome of every line.
+     * @see #executeAll(Iterable, boolean)
+     */
+    public BatchResult executeAll(Iterable<String> inputs) {
+        return executeAll(inputs, true);
+    }
 
-                if(child != null) {
-                    commandNode = child;
-                    argument = "";
-                }else {
-                    next = true;
-                }
-            }while (scanner.hasNext());
+    /**
+     * Executes a batch of commands, without stopping at failures.
+     * <p>
+     *     All the lines are parsed in parallel against the same snapshot first, what an argument type throws is kept as the line's failure.
+     *     Then they are either executed one after another in order on the calling thread,
+     *     or in parallel in no particular order.
+     * </p>
+     *
+     * @param inputs  The command inputs.
+     * @param ordered  If the commands have to be executed in order.
+     * @return  The outcome of every line.
+     */
+    public BatchResult executeAll(Iterable<String> inputs, boolean ordered) {
+        List<String> lines = new ArrayList<>();
+        inputs.forEach(lines::add);
+        return executeAll(lines, ordered);
+    }
+
+    /**
+     * Executes a stream of commands, without stopping at failures.
+     *
+     * @param inputs  The command inputs.
+     * @param ordered  If the commands have to be executed in order.
+     * @return  The outcome of every line, in stream order.
+     * @see #executeAll(Iterable, boolean)
+     */
+    public BatchResult executeAll(Stream<String> inputs, boolean ordered) {
+        return executeAll(inputs.collect(Collectors.toList()), ordered);
+    }
+
+    /**
+     * Executes a batch of commands, without stopping at failures.
+     *
+     * @param lines  The command inputs.
+     * @param ordered  If the commands have to be executed in order.
+     * @return  The outcome of every line.
+     */
+    private BatchResult executeAll(List<String> lines, boolean ordered) {
+        CommandTree commandTree = getSnapshot();
+        ParseResults[] parsed = new ParseResults[lines.size()];
+        Exception[] failures = new Exception[lines.size()];
+
+        IntStream.range(0, parsed.length).parallel().forEach(line -> {
+            try {
+                parsed[line] = parse(commandTree, lines.get(line), false);
+            }catch (CommandException | RuntimeException e) {
+                failures[line] = e;
+            }
+        });
+
+        IntStream indices = IntStream.range(0, parsed.length).filter(line -> parsed[line] != null);
+        (ordered ? indices : indices.parallel()).forEach(line -> {
+            try {
+                execute(parsed[line]);
+            }catch (Exception e) {
+                failures[line] = e;
+            }
+        });
+        return new BatchResult(failures);
+    }
+
+    /**
+     * Parses and executes a command on the dispatcher's executor.
+     * <p>
+     *     Commands submitted this way have no order between each other, see {@link #executeAsync(CommandSource, String)}.
+     * </p>
+     *
+     * @param input  The command input.
+     * @return  A future completed once the command ran, or completed exceptionally with whatever it failed with,
+     *          {@link CommandException}s included.
+     */
+    public CompletableFuture<Void> executeAsync(String input) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if(shutdown) {
+            future.completeExceptionally(CommandRejectedException.SHUT_DOWN);
+            return future;
+        }
+        if(!reservePending()) {
+            future.completeExceptionally(CommandRejectedException.SATURATED);
+            return future;
         }
+        submit(null, input, future, null);
+        return future;
+    }
 
-        if(commandNode.getCommand() == null) {
-            throw new CommandSyntaxException("Invalid command usage of " + input);
+    /**
+     * Parses and executes a command on the dispatcher's executor.
+     * <p>
+     *     Commands of the same source run one after another in the order they were submitted,
+     *     commands of different sources run in parallel.
+     *     The source's rate limit is checked right away, so a rejected command never takes a place in the queue.
+     * </p>
+     *
+     * @param source  The source.
+     * @param input  The command input.
+     * @return  A future completed once the command ran, or completed exceptionally with whatever it failed with,
+     *          {@link CommandException}s included. A turned down command fails with a shared {@link CommandRejectedException}.
+     */
+    public CompletableFuture<Void> executeAsync(CommandSource source, String input) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if(shutdown) {
+            future.completeExceptionally(CommandRejectedException.SHUT_DOWN);
+            return future;
+        }
+        if(rateLimiter != null && !rateLimiter.tryAcquire(source)) {
+            future.completeExceptionally(CommandRejectedException.RATE_LIMITED);
+            return future;
+        }
+        if(!reservePending()) {
+            future.completeExceptionally(CommandRejectedException.SATURATED);
+            return future;
         }
+        CompletableFuture<Void> done = new CompletableFuture<>();
 
-        commandNode.getCommand().execute(commandContext);
+        CompletableFuture<Void> previous = sourceTails.put(source, done);
+        done.whenComplete((result, throwable) -> sourceTails.remove(source, done));
+        if(previous == null) {
+            submit(source, input, future, done);
+        }else {
+            previous.whenComplete((result, throwable) -> submit(source, input, future, done));
+        }
+        return future;
     }
 
-    public static List<String> getSuggestions(String input) {
-        List<String> suggestions = new ArrayList<>();
-        Scanner scanner = new Scanner(input);
-        String commandName = scanner.next();
-
-        CommandNode commandNode = COMMAND_NODES.get(commandName);
+    /**
+     * Gets the amount of asynchronous commands submitted and not yet over, the ones waiting on their source included.
+     *
+     * @return  The amount of pending commands.
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
 
+    /**
+     * Checks if asynchronous commands are being turned down, because {@link DispatcherBuilder#maxPendingCommands(int)} are pending.
+     * <p>
+     *     Producers can poll this to slow down before their commands get rejected.
+     * </p>
+     *
+     * @return  If the dispatcher is saturated.
+     */
+    public boolean isSaturated() {
+        return pending.get() >= maxPendingCommands;
+    }
 
-        while (commandNode == null && scanner.hasNext()) {
-            commandName = commandName.concat(" ").concat(scanner.next()).trim();
-            commandNode = COMMAND_NODES.get(commandName);
+    /**
+     * Takes a place for an asynchronous command.
+     *
+     * @return  If there was a place.
+     */
+    private boolean reservePending() {
+        while (true) {
+            int pending = this.pending.get();
+            if(pending >= maxPendingCommands) {
+                return false;
+            }
+            if(this.pending.compareAndSet(pending, pending + 1)) {
+                return true;
+            }
         }
+    }
+
+    /**
+     * Submits a command to the executor, its place was already taken.
+     *
+     * @param source  The source, whose rate limit was already checked, {@code null} for unlimited commands.
+     * @param input  The command input.
+     * @param future  The future to complete with the outcome of the command.
+     * @param done  The future to complete once the command is over, can be {@code null}.
+     */
+    private void submit(CommandSource source, String input, CompletableFuture<Void> future, CompletableFuture<Void> done) {
+        try {
+            getExecutor().execute(() -> {
+                Throwable failure = null;
+                try {
+                    if(source == null) {
+                        execute(input);
+                    }else {
+                        ExecutionStatus status = executeLimited(source, parse(source, input));
+                        if(status != ExecutionStatus.EXECUTED) {
+                            failure = CommandRejectedException.of(status);
+                        }
+                    }
+                }catch (Throwable throwable) {
+                    failure = throwable;
+                }
 
-        if(commandNode == null) {
-            for (String key : COMMAND_NODES.keySet()) {
-                if(key.startsWith(commandName)) {
-                    suggestions.add(key);
+                boolean last = pending.decrementAndGet() == 0;
+                if(done != null) {
+                    done.complete(null);
                 }
-            }
-            return suggestions;
-        }
-        if(scanner.hasNext()) {
-            String argument = scanner.next();
-            boolean next = false;
-            do {
-                if (argument.isEmpty()) {
-                    argument = scanner.next();
+                if(failure == null) {
+                    future.complete(null);
+                }else {
+                    future.completeExceptionally(failure);
                 }
-                if(next) {
-                    argument = argument.concat(" ").concat(scanner.next()).trim();
-                    next = false;
+                if(last && shutdown) {
+                    terminate();
                 }
-                CommandNode child = commandNode.getChild(argument);
-                if (child == null) {
-                    if (!scanner.hasNext()) {
-                        for (CommandNode commandNodeChild : commandNode.getChildren()) {
-                            if (commandNodeChild.getName().toLowerCase().startsWith(argument.toLowerCase())) {
-                                suggestions.add(commandNodeChild.getName());
-                            }
-                        }
-                        return suggestions;
-                    } else {
-                        next = true;
-                    }
-                } else {
-                    commandNode = child;
-                    argument = "";
+            });
+        }catch (RejectedExecutionException e) {
+            boolean last = pending.decrementAndGet() == 0;
+            if(done != null) {
+                done.complete(null);
+            }
+            future.completeExceptionally(e);
+            if(last && shutdown) {
+                terminate();
+            }
+        }
+    }
+
+    /**
+     * Gets the executor asynchronous commands run on, making the default one on the first call.
+     *
+     * @return  The executor.
+     * @throws RejectedExecutionException  If the dispatcher was terminated before the default executor was ever made.
+     */
+    private Executor getExecutor() {
+        Executor executor = this.executor;
+        if(executor != null) {
+            return executor;
+        }
+        synchronized (executorLock) {
+            if(this.executor == null) {
+                if(terminated.isDone()) {
+                    throw new RejectedExecutionException("The dispatcher is shut down.");
                 }
-            } while (scanner.hasNext());
+                this.executor = ExecutorUtil.newCommandExecutor();
+            }
+            return this.executor;
+        }
+    }
+
+    /**
+     * Shuts the dispatcher's own executor down, once no asynchronous command is pending after {@link #shutdown()}.
+     */
+    private void terminate() {
+        synchronized (executorLock) {
+            if(ownsExecutor && executor instanceof ExecutorService) {
+                ((ExecutorService) executor).shutdown();
+            }
+            terminated.complete(null);
+        }
+    }
+
+    /**
+     * Turns down new asynchronous commands, they fail with {@link CommandRejectedException#SHUT_DOWN}.
+     * <p>
+     *     Commands submitted before still run, those waiting on their source included, then the default executor is shut down.
+     *     An executor given to {@link DispatcherBuilder#executor(Executor)} is never shut down.
+     *     Synchronous execution, parsing and suggesting keep working. Calling this more than once does nothing.
+     * </p>
+     */
+    public void shutdown() {
+        shutdown = true;
+        if(pending.get() == 0) {
+            terminate();
         }
+    }
+
+    /**
+     * Checks if {@link #shutdown()} was called.
+     *
+     * @return  If the dispatcher is shut down.
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
 
-        return suggestions;
+    /**
+     * Shuts the dispatcher down, see {@link #shutdown()}, and waits for its asynchronous commands to be over.
+     * <p>
+     *     Must not be called from an asynchronous command, it would wait on itself.
+     * </p>
+     */
+    @Override
+    public void close() {
+        shutdown();
+        terminated.join();
+    }
+
+    /**
+     * Parses a command against the current snapshot, going through the parse cache if there is one.
+     * <p>
+     *     Only {@link String} inputs are cached, other char sequences are parsed in place.
+     * </p>
+     *
+     * @param input  The command input.
+     * @return  The node the input resolved to, and the context holding the parsed arguments.
+     * @throws CommandException  If the command doesn't exist, or if the input doesn't fit the command.
+     * @see CommandTree#parse(CharSequence)
+     */
+    public ParseResults parse(CharSequence input) throws CommandException {
+        return parse(getSnapshot(), input, parseCache != null && input instanceof String);
+    }
+
+    /**
+     * Parses a command against the current snapshot, only matching the nodes a source can see.
+     * <p>
+     *     Sources that see the whole tree go through the parse cache like {@link #parse(CharSequence)},
+     *     the parses of the others aren't cached since they depend on the source.
+     * </p>
+     *
+     * @param source  The source.
+     * @param input  The command input.
+     * @return  The node the input resolved to, and the context holding the parsed arguments.
+     * @throws CommandException  If the command doesn't exist or is hidden, or if the input doesn't fit the command.
+     * @see CommandTree#parse(CharSequence, Visibility)
+     */
+    public ParseResults parse(CommandSource source, CharSequence input) throws CommandException {
+        CommandTree commandTree = getSnapshot();
+        Visibility visibility = getVisibility(commandTree, source);
+        if(visibility == null) {
+            return parse(commandTree, input, parseCache != null && input instanceof String);
+        }
+        return parse(commandTree, input, false, visibility);
+    }
+
+    /**
+     * Parses a command against a snapshot, recording it in the metrics.
+     *
+     * @param commandTree  The snapshot.
+     * @param input  The command input.
+     * @param cached  If the parse cache is used.
+     * @return  The node the input resolved to, and the context holding the parsed arguments.
+     * @throws CommandException  If the command doesn't exist, or if the input doesn't fit the command.
+     */
+    private ParseResults parse(CommandTree commandTree, CharSequence input, boolean cached) throws CommandException {
+        return parse(commandTree, input, cached, null);
+    }
+
+    /**
+     * Parses a command against a snapshot for what a source can see, recording it in the metrics.
+     *
+     * @param commandTree  The snapshot.
+     * @param input  The command input.
+     * @param cached  If the parse cache is used, only when every node is visible.
+     * @param visibility  What the source can see, {@code null} for everything.
+     * @return  The node the input resolved to, and the context holding the parsed arguments.
+     * @throws CommandException  If the command doesn't exist, or if the input doesn't fit the command.
+     */
+    private ParseResults parse(CommandTree commandTree, CharSequence input, boolean cached, Visibility visibility) throws CommandException {
+        if(!timed) {
+            return cached ? parseCached(commandTree, (String) input) : commandTree.parse(input, visibility);
+        }
+
+        long start = System.nanoTime();
+        ParseResults parseResults;
+        try {
+            parseResults = cached ? parseCached(commandTree, (String) input) : commandTree.parse(input, visibility);
+        }catch (CommandNotFoundException e) {
+            metrics.recordNotFound(System.nanoTime() - start);
+            throw e;
+        }catch (CommandSyntaxException e) {
+            metrics.recordSyntaxError(System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordParse(parseResults, System.nanoTime() - start);
+        return parseResults;
+    }
+
+    /**
+     * Parses a command against a snapshot through the parse cache.
+     *
+     * @param commandTree  The snapshot.
+     * @param input  The command input.
+     * @return  The node the input resolved to, and the context holding the parsed arguments.
+     * @throws CommandException  If the command doesn't exist, or if the input doesn't fit the command.
+     */
+    private ParseResults parseCached(CommandTree commandTree, String input) throws CommandException {
+        ParseResults parseResults = parseCache.get(input, commandTree);
+        if(parseResults == null) {
+            parseResults = commandTree.parse(input);
+            parseCache.put(input, parseResults);
+        }
+        return parseResults;
+    }
+
+    /**
+     * Gets all the labels that could follow the input, in alphabetical order.
+     *
+     * @param input  The command input.
+     * @return  The suggestions.
+     */
+    public List<String> getSuggestions(String input) {
+        return getSnapshot().getSuggestions(input);
+    }
+
+    /**
+     * Gets the top {@code limit} labels that could follow the input, ranked by the dispatcher's {@link SuggestionRanking}.
+     *
+     * @param input  The command input.
+     * @param limit  The most suggestions to return.
+     * @return  The suggestions.
+     */
+    public List<String> getSuggestions(String input, int limit) {
+        return getSnapshot().getSuggestions(input, limit, suggestionRanking);
+    }
+
+    /**
+     * Gets the top {@code limit} labels a source can see that could follow the input, ranked by the dispatcher's {@link SuggestionRanking}.
+     *
+     * @param source  The source.
+     * @param input  The command input.
+     * @param limit  The most suggestions to return.
+     * @return  The suggestions.
+     */
+    public List<String> getSuggestions(CommandSource source, String input, int limit) {
+        CommandTree commandTree = getSnapshot();
+        return commandTree.getSuggestions(input, limit, suggestionRanking, getVisibility(commandTree, source));
+    }
+
+    /**
+     * Gets what a source can see of a snapshot.
+     * <p>
+     *     The view of every source is kept, so the requirements of the nodes are evaluated once per source,
+     *     until the snapshot or the source's permissions change.
+     * </p>
+     *
+     * @param commandTree  The snapshot.
+     * @param source  The source.
+     * @return  The view, or {@code null} if the source sees everything.
+     */
+    private Visibility getVisibility(CommandTree commandTree, CommandSource source) {
+        if(!commandTree.isRestricted()) {
+            return null;
+        }
+        Visibility visibility = visibilities.get(source);
+        if(visibility != null && visibility.isCurrent(commandTree)) {
+            return visibility;
+        }
+
+        Visibility current = commandTree.getVisibility(source);
+        if(current != null) {
+            visibilities.put(source, current);
+        }else if(visibility != null) {
+            visibilities.remove(source, visibility);
+        }
+        return current;
+    }
+
+    /**
+     * Forgets everything kept about a source, like its view of the commands and its rate limit.
+     * <p>
+     *     Call this once a source is gone for good, like a disconnected client.
+     * </p>
+     *
+     * @param source  The source.
+     */
+    public void removeSource(CommandSource source) {
+        visibilities.remove(source);
+        if(rateLimiter != null) {
+            rateLimiter.removeSource(source);
+        }
     }
 
     /**
@@ -168,7 +995,43 @@ public final class CommandDispatcher {
      * @param name  The name.
      * @return  The node.
      */
-    public static CommandNode get(String name) {
-        return COMMAND_NODES.get(name);
+    public CommandNode get(String name) {
+        return getSnapshot().getRoot(name);
+    }
+
+    /**
+     * Gets the parse cache, to read its hit and miss counts.
+     *
+     * @return  The parse cache, or {@code null} if parses aren't cached.
+     */
+    public ParseCache getParseCache() {
+        return parseCache;
+    }
+
+    /**
+     * Gets the metrics commands are recorded in.
+     *
+     * @return  The metrics, {@link CommandMetrics#DISABLED} unless they were turned on in the {@link DispatcherBuilder}.
+     */
+    public CommandMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the rate limiter commands executed for a source go through.
+     *
+     * @return  The rate limiter, or {@code null} if commands aren't limited.
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Gets the current snapshot of all the registered commands, compiling it first if commands were registered since the last one.
+     *
+     * @return  The snapshot.
+     */
+    public CommandTree getCommandTree() {
+        return getSnapshot();
     }
 }
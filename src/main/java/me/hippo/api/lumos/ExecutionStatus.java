@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos;
+
+/**
+ * What happened to a command handed to the dispatcher.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public enum ExecutionStatus {
+
+    /**
+     * The command was executed.
+     */
+    EXECUTED,
+
+    /**
+     * The command wasn't executed, its source or its path is over its rate limit.
+     */
+    RATE_LIMITED,
+
+    /**
+     * The command wasn't executed, too many asynchronous commands are pending.
+     */
+    SATURATED,
+
+    /**
+     * The command wasn't executed, the dispatcher is shut down.
+     */
+    SHUT_DOWN
+}
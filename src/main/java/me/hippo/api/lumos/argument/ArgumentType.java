@@ -16,9 +16,58 @@
 
 package me.hippo.api.lumos.argument;
 
+import me.hippo.api.lumos.context.ArgumentValueWrapper;
+import me.hippo.api.lumos.reader.StringReader;
+
+import java.util.List;
+
 /**
+ * Parses the value of an argument.
+ * <p>
+ *     Implement this to add your own argument types, the parser only ever asks the type of the argument node it is trying.
+ * </p>
+ *
+ * @param <T>  The type of the value.
  * @author Hippo
- * @version 1.0.0, 07/25/2019
+ * @version 1.2.0, 10/18/2026
  * @since 1.0.0
  */
-public interface ArgumentType {}
+public interface ArgumentType<T> {
+
+    /**
+     * Parses the argument at the reader's cursor.
+     * <p>
+     *     On success the cursor has to be left right after the argument, on a token boundary.
+     *     Input that isn't of this type is not an error, it just means the next argument node gets a try,
+     *     so it is reported by returning {@code null} rather than by throwing. The caller puts the cursor back.
+     * </p>
+     *
+     * @param reader  The reader.
+     * @return  The value, or {@code null} if the input isn't of this type.
+     */
+    T parse(StringReader reader);
+
+    /**
+     * Reads the argument at the reader's cursor into an {@link ArgumentValueWrapper}.
+     * <p>
+     *     This is what the parser calls, by default it wraps {@link #parse(StringReader)}.
+     *     Types with a primitive value override it to hand the primitive over without boxing it.
+     * </p>
+     *
+     * @param reader  The reader.
+     * @return  The value, or {@code null} if the input isn't of this type.
+     */
+    default ArgumentValueWrapper read(StringReader reader) {
+        int start = reader.getCursor();
+        T value = parse(reader);
+        return value == null ? null : new ArgumentValueWrapper(value, reader.substring(start, reader.getCursor()));
+    }
+
+    /**
+     * Lists the values this type suggests for a partial argument.
+     *
+     * @param prefix  What has been typed of the argument so far.
+     * @param suggestions  The suggestions to add to.
+     */
+    default void listSuggestions(String prefix, List<String> suggestions) {}
+}
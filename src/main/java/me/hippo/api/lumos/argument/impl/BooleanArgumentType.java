@@ -17,10 +17,42 @@
 package me.hippo.api.lumos.argument.impl;
 
 import me.hippo.api.lumos.argument.ArgumentType;
+import me.hippo.api.lumos.context.ArgumentValueWrapper;
+import me.hippo.api.lumos.reader.StringReader;
+import me.hippo.api.lumos.util.TypeUtil;
+
+import java.util.List;
 
 /**
+ * A boolean, {@code on}/{@code off} and {@code yes}/{@code no} count too.
+ *
  * @author Hippo
- * @version 1.0.0, 07/25/2019
+ * @version 1.2.0, 10/18/2026
  * @since 1.0.0
  */
-public final class BooleanArgumentType implements ArgumentType {}
+public final class BooleanArgumentType implements ArgumentType<Boolean> {
+
+    @Override
+    public Boolean parse(StringReader reader) {
+        ArgumentValueWrapper value = read(reader);
+        return value == null ? null : value.booleanValue();
+    }
+
+    @Override
+    public ArgumentValueWrapper read(StringReader reader) {
+        CharSequence input = reader.getInput();
+        int start = reader.getCursor();
+        int end = reader.skipToken();
+        int value = TypeUtil.parseBoolean(input, start, end);
+        return value == TypeUtil.NOT_A_BOOLEAN ? null : ArgumentValueWrapper.ofBoolean(value == 1, input, start, end);
+    }
+
+    @Override
+    public void listSuggestions(String prefix, List<String> suggestions) {
+        for (String value : new String[] {"true", "false"}) {
+            if(value.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                suggestions.add(value);
+            }
+        }
+    }
+}
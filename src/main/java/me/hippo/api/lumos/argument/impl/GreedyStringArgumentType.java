@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.argument.impl;
+
+import me.hippo.api.lumos.argument.ArgumentType;
+import me.hippo.api.lumos.context.ArgumentValueWrapper;
+import me.hippo.api.lumos.reader.StringReader;
+
+/**
+ * The rest of the input, whitespace included, so it has to be the last argument of a command.
+ * <p>
+ *     The value is a single range of the input, it is only copied out if it is asked for.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class GreedyStringArgumentType implements ArgumentType<String> {
+
+    @Override
+    public String parse(StringReader reader) {
+        return reader.canRead() ? reader.readRemaining() : null;
+    }
+
+    @Override
+    public ArgumentValueWrapper read(StringReader reader) {
+        if(!reader.canRead()) {
+            return null;
+        }
+        int start = reader.getCursor();
+        reader.setCursor(reader.getLength());
+        return ArgumentValueWrapper.ofText(reader.getInput(), start, reader.getLength());
+    }
+}
@@ -17,10 +17,40 @@
 package me.hippo.api.lumos.argument.impl;
 
 import me.hippo.api.lumos.argument.ArgumentType;
+import me.hippo.api.lumos.context.ArgumentValueWrapper;
+import me.hippo.api.lumos.reader.StringReader;
+import me.hippo.api.lumos.util.TypeUtil;
 
 /**
+ * A number, parsed as a {@link Double}.
+ * <p>
+ *     Integral numbers are kept as a long, so {@link me.hippo.api.lumos.context.CommandContext#getLong(String)} is exact.
+ * </p>
+ *
  * @author Hippo
- * @version 1.0.0, 07/25/2019
+ * @version 1.2.0, 10/18/2026
  * @since 1.0.0
  */
-public final class NumberArgumentType implements ArgumentType {}
+public final class NumberArgumentType implements ArgumentType<Double> {
+
+    @Override
+    public Double parse(StringReader reader) {
+        int start = reader.getCursor();
+        int end = reader.skipToken();
+        return TypeUtil.isDouble(reader.getInput(), start, end) ? TypeUtil.parseDouble(reader.getInput(), start, end) : null;
+    }
+
+    @Override
+    public ArgumentValueWrapper read(StringReader reader) {
+        CharSequence input = reader.getInput();
+        int start = reader.getCursor();
+        int end = reader.skipToken();
+        if(TypeUtil.isLong(input, start, end)) {
+            return ArgumentValueWrapper.ofLong(TypeUtil.parseLong(input, start, end), input, start, end);
+        }
+        if(TypeUtil.isDouble(input, start, end)) {
+            return ArgumentValueWrapper.ofDouble(TypeUtil.parseDouble(input, start, end), input, start, end);
+        }
+        return null;
+    }
+}
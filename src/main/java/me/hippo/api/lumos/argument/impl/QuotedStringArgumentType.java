@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.argument.impl;
+
+import me.hippo.api.lumos.argument.ArgumentType;
+import me.hippo.api.lumos.context.ArgumentValueWrapper;
+import me.hippo.api.lumos.reader.StringReader;
+
+/**
+ * Text between double or single quotes, whitespace included.
+ * <p>
+ *     Inside the quotes a backslash escapes the quote or another backslash. The input is scanned once,
+ *     a value without escapes is a range of the input and only a value with escapes is copied as it is scanned.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class QuotedStringArgumentType implements ArgumentType<String> {
+
+    /**
+     * The escape char.
+     */
+    private static final char ESCAPE = '\\';
+
+    @Override
+    public String parse(StringReader reader) {
+        ArgumentValueWrapper value = read(reader);
+        return value == null ? null : (String) value.getValue();
+    }
+
+    @Override
+    public ArgumentValueWrapper read(StringReader reader) {
+        if(!reader.canRead() || !isQuote(reader.peek())) {
+            return null;
+        }
+        CharSequence input = reader.getInput();
+        int length = reader.getLength();
+        int start = reader.getCursor() + 1;
+        char quote = input.charAt(start - 1);
+
+        char[] unescaped = null;
+        int size = 0;
+        int copied = start;
+        for (int i = start; i < length; i++) {
+            char c = input.charAt(i);
+            if(c == quote) {
+                reader.setCursor(i + 1);
+                if(unescaped == null) {
+                    return ArgumentValueWrapper.ofText(input, start, i);
+                }
+                size = copy(input, copied, i, unescaped, size);
+                String value = new String(unescaped, 0, size);
+                return new ArgumentValueWrapper(value, value);
+            }
+            if(c == ESCAPE) {
+                if(i + 1 == length || (input.charAt(i + 1) != quote && input.charAt(i + 1) != ESCAPE)) {
+                    return null;
+                }
+                if(unescaped == null) {
+                    unescaped = new char[length - start];
+                }
+                size = copy(input, copied, i, unescaped, size);
+                copied = ++i;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copies part of the input into a buffer, in bulk when the input is a {@link String}.
+     *
+     * @param input  The input.
+     * @param start  The start of the part (inclusive).
+     * @param end  The end of the part (exclusive).
+     * @param buffer  The buffer.
+     * @param size  Where to copy to in the buffer.
+     * @return  The new size of the buffer.
+     */
+    private static int copy(CharSequence input, int start, int end, char[] buffer, int size) {
+        if(input instanceof String) {
+            ((String) input).getChars(start, end, buffer, size);
+            return size + end - start;
+        }
+        for (int i = start; i < end; i++) {
+            buffer[size++] = input.charAt(i);
+        }
+        return size;
+    }
+
+    private static boolean isQuote(char c) {
+        return c == '"' || c == '\'';
+    }
+}
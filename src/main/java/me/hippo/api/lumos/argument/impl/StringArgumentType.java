@@ -17,10 +17,19 @@
 package me.hippo.api.lumos.argument.impl;
 
 import me.hippo.api.lumos.argument.ArgumentType;
+import me.hippo.api.lumos.reader.StringReader;
 
 /**
+ * A single word.
+ *
  * @author Hippo
- * @version 1.0.0, 07/25/2019
+ * @version 1.2.0, 10/18/2026
  * @since 1.0.0
  */
-public final class StringArgumentType implements ArgumentType {}
+public final class StringArgumentType implements ArgumentType<String> {
+
+    @Override
+    public String parse(StringReader reader) {
+        return reader.readToken();
+    }
+}
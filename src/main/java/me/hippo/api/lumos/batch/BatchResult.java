@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.batch;
+
+import me.hippo.api.lumos.exception.CommandException;
+
+/**
+ * The outcome of every line of a command batch.
+ * <p>
+ *     A line either succeeded, or failed with an exception, usually a {@link CommandException}.
+ *     Only the failures are stored, a successful line is just an empty slot.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class BatchResult {
+
+    /**
+     * The failure of every line, {@code null} for the lines that succeeded.
+     */
+    private final Exception[] failures;
+
+    /**
+     * The amount of lines that failed.
+     */
+    private final int failureCount;
+
+    /**
+     * Creates a new {@link BatchResult} with the desired failures.
+     *
+     * @param failures  The failure of every line, {@code null} for the lines that succeeded.
+     */
+    public BatchResult(Exception[] failures) {
+        this.failures = failures;
+
+        int failureCount = 0;
+        for (Exception failure : failures) {
+            if(failure != null) {
+                failureCount++;
+            }
+        }
+        this.failureCount = failureCount;
+    }
+
+    /**
+     * Gets the amount of lines.
+     *
+     * @return  The amount of lines.
+     */
+    public int size() {
+        return failures.length;
+    }
+
+    /**
+     * Checks if a line succeeded.
+     *
+     * @param line  The line, starting at {@code 0}.
+     * @return  If the line succeeded.
+     */
+    public boolean isSuccess(int line) {
+        return failures[line] == null;
+    }
+
+    /**
+     * Gets what a line failed with.
+     *
+     * @param line  The line, starting at {@code 0}.
+     * @return  The failure, or {@code null} if the line succeeded.
+     */
+    public Exception getFailure(int line) {
+        return failures[line];
+    }
+
+    /**
+     * Gets the amount of lines that succeeded.
+     *
+     * @return  The amount of successes.
+     */
+    public int getSuccessCount() {
+        return failures.length - failureCount;
+    }
+
+    /**
+     * Gets the amount of lines that failed.
+     *
+     * @return  The amount of failures.
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+}
@@ -19,15 +19,25 @@ package me.hippo.api.lumos.builder;
 import me.hippo.api.lumos.Command;
 import me.hippo.api.lumos.argument.ArgumentType;
 import me.hippo.api.lumos.argument.impl.BooleanArgumentType;
+import me.hippo.api.lumos.argument.impl.GreedyStringArgumentType;
 import me.hippo.api.lumos.argument.impl.NumberArgumentType;
+import me.hippo.api.lumos.argument.impl.QuotedStringArgumentType;
 import me.hippo.api.lumos.argument.impl.StringArgumentType;
 import me.hippo.api.lumos.node.CommandNode;
 import me.hippo.api.lumos.node.argument.ArgumentCommandNode;
 import me.hippo.api.lumos.node.label.LabelCommandNode;
+import me.hippo.api.lumos.source.CommandSource;
+import me.hippo.api.lumos.util.NodeUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * @author Hippo
- * @version 1.0.0, 07/25/2019
+ * @version 1.2.0, 10/18/2026
  * @since 1.0.0
  */
 public final class CommandBuilder {
@@ -37,6 +47,11 @@ public final class CommandBuilder {
      */
     private final CommandNode commandNode;
 
+    /**
+     * Supplies the lazy children of the {@link #commandNode}, {@code null} if it has none.
+     */
+    private Supplier<List<CommandNode>> lazyChildren;
+
     /**
      * Creates a new {@link CommandBuilder} for labels.
      *
@@ -51,7 +66,7 @@ public final class CommandBuilder {
      * @param name  The name.
      * @param argumentType  The type.
      */
-    public CommandBuilder(String name, ArgumentType argumentType) {
+    public CommandBuilder(String name, ArgumentType<?> argumentType) {
         this.commandNode = new ArgumentCommandNode(name, argumentType);
     }
 
@@ -62,10 +77,71 @@ public final class CommandBuilder {
      * @return  {@code this}.
      */
     public CommandBuilder then(CommandBuilder argument) {
+        if(commandNode.getRedirect() != null) {
+            throw new IllegalArgumentException("The node " + commandNode.getName() + " redirects, it can't have children");
+        }
         commandNode.addChild(argument.build());
         return this;
     }
 
+    /**
+     * Adds children that are only built the first time parsing or suggesting goes below this node.
+     * <p>
+     *     The supplier runs at most once, even under concurrency, so branches that are never used are never built.
+     *     Calling this again adds to the children supplied before.
+     * </p>
+     *
+     * @param arguments  Supplies the arguments.
+     * @return  {@code this}.
+     * @throws IllegalArgumentException  When the children are materialized, if one of them is invalid.
+     */
+    public CommandBuilder thenLazily(Supplier<? extends Collection<CommandBuilder>> arguments) {
+        if(commandNode.getRedirect() != null) {
+            throw new IllegalArgumentException("The node " + commandNode.getName() + " redirects, it can't have children");
+        }
+        Supplier<List<CommandNode>> children = () -> {
+            List<CommandNode> built = new ArrayList<>();
+            for (CommandBuilder argument : arguments.get()) {
+                built.add(NodeUtil.validate(argument.build()));
+            }
+            return built;
+        };
+        lazyChildren = lazyChildren == null ? children : combine(lazyChildren, children);
+        commandNode.setLazyChildren(lazyChildren);
+        return this;
+    }
+
+    private static Supplier<List<CommandNode>> combine(Supplier<List<CommandNode>> first, Supplier<List<CommandNode>> second) {
+        return () -> {
+            List<CommandNode> children = new ArrayList<>(first.get());
+            children.addAll(second.get());
+            return children;
+        };
+    }
+
+    /**
+     * Makes the node an alias of another one, it goes on with the children of the target instead of having its own.
+     * <p>
+     *     The target's subtree is shared rather than copied, and it can be an ancestor, so a command can loop back on itself.
+     *     Unless the node executes a command of its own, it executes the target's command.
+     *     The target is the node as it is now, registering more children under its path later replaces it with a merged copy.
+     * </p>
+     *
+     * @param target  The target.
+     * @return  {@code this}.
+     * @throws IllegalArgumentException  If the node already has children.
+     */
+    public CommandBuilder redirect(CommandBuilder target) {
+        if(target == null) {
+            throw new IllegalArgumentException("The redirect target can't be null");
+        }
+        if(!commandNode.getChildren().isEmpty() || commandNode.isLazy()) {
+            throw new IllegalArgumentException("The node " + commandNode.getName() + " has children, it can't redirect");
+        }
+        commandNode.setRedirect(target.build());
+        return this;
+    }
+
     /**
      * Sets the {@link #commandNode}'s command.
      *
@@ -77,6 +153,39 @@ public final class CommandBuilder {
         return this;
     }
 
+    /**
+     * Hides the node, and everything below it, from sources that lack any of the permission bits.
+     * <p>
+     *     Bits add up over several calls. Checking them is a single mask test, so they are the cheap way to gate commands.
+     * </p>
+     *
+     * @param permissions  The permission bits, see {@link CommandSource#getPermissions()}.
+     * @return  {@code this}.
+     */
+    public CommandBuilder requires(long permissions) {
+        commandNode.setRequiredPermissions(commandNode.getRequiredPermissions() | permissions);
+        return this;
+    }
+
+    /**
+     * Hides the node, and everything below it, from sources that don't meet the requirement.
+     * <p>
+     *     Requirements add up over several calls. The outcome is cached per source until its
+     *     {@link CommandSource#getPermissionVersion()} changes.
+     * </p>
+     *
+     * @param requirement  The requirement.
+     * @return  {@code this}.
+     */
+    public CommandBuilder requires(Predicate<CommandSource> requirement) {
+        if(requirement == null) {
+            throw new IllegalArgumentException("The requirement can't be null");
+        }
+        Predicate<CommandSource> current = commandNode.getRequirement();
+        commandNode.setRequirement(current == null ? requirement : current.and(requirement));
+        return this;
+    }
+
     /**
      * Builds the {@link CommandBuilder}.
      *
@@ -91,7 +200,7 @@ public final class CommandBuilder {
     public static CommandBuilder label(String label) {
         return new CommandBuilder(label);
     }
-    public static CommandBuilder argument(String name, ArgumentType argumentType) {
+    public static CommandBuilder argument(String name, ArgumentType<?> argumentType) {
         return new CommandBuilder(name, argumentType);
     }
     public static NumberArgumentType number() {
@@ -103,4 +212,10 @@ public final class CommandBuilder {
     public static StringArgumentType string() {
         return new StringArgumentType();
     }
+    public static QuotedStringArgumentType quoted() {
+        return new QuotedStringArgumentType();
+    }
+    public static GreedyStringArgumentType greedy() {
+        return new GreedyStringArgumentType();
+    }
 }
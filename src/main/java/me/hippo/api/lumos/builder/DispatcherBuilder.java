@@ -0,0 +1,219 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.builder;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.cache.EvictionPolicy;
+import me.hippo.api.lumos.cache.ParseCache;
+import me.hippo.api.lumos.limit.RateLimiter;
+import me.hippo.api.lumos.metrics.CommandMetrics;
+import me.hippo.api.lumos.suggestion.SuggestionRanking;
+import me.hippo.api.lumos.util.ExecutorUtil;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configures a {@link CommandDispatcher}.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class DispatcherBuilder {
+
+    /**
+     * The ranking suggestions are picked with.
+     */
+    private SuggestionRanking suggestionRanking = SuggestionRanking.ALPHABETICAL;
+
+    /**
+     * The most entries the {@link ParseCache} holds, {@code 0} if parses aren't cached.
+     */
+    private int parseCacheSize;
+
+    /**
+     * The eviction policy of the {@link ParseCache}.
+     */
+    private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+    /**
+     * The executor asynchronous commands run on, {@code null} for {@link ExecutorUtil#newCommandExecutor()}.
+     */
+    private Executor executor;
+
+    /**
+     * The metrics commands are recorded in.
+     */
+    private CommandMetrics metrics = CommandMetrics.DISABLED;
+
+    /**
+     * The rate limiter, {@code null} if commands aren't limited.
+     */
+    private RateLimiter rateLimiter;
+
+    /**
+     * The most asynchronous commands that can be pending.
+     */
+    private int maxPendingCommands = Integer.MAX_VALUE;
+
+    /**
+     * Sets the ranking suggestions are picked with, {@link SuggestionRanking#ALPHABETICAL} by default.
+     *
+     * @param suggestionRanking  The suggestion ranking.
+     * @return  {@code this}.
+     */
+    public DispatcherBuilder suggestionRanking(SuggestionRanking suggestionRanking) {
+        this.suggestionRanking = suggestionRanking;
+        return this;
+    }
+
+    /**
+     * Caches the parses of up to {@code maximumSize} inputs, parses aren't cached by default.
+     *
+     * @param maximumSize  The most entries the cache holds.
+     * @param evictionPolicy  The eviction policy.
+     * @return  {@code this}.
+     */
+    public DispatcherBuilder parseCache(int maximumSize, EvictionPolicy evictionPolicy) {
+        this.parseCacheSize = maximumSize;
+        this.evictionPolicy = evictionPolicy;
+        return this;
+    }
+
+    /**
+     * Sets the executor asynchronous commands run on.
+     * <p>
+     *     By default that is a virtual thread per command when the runtime has virtual threads, otherwise a cached thread pool,
+     *     made on the first asynchronous command and shut down with the dispatcher. A given executor is never shut down by the dispatcher.
+     * </p>
+     *
+     * @param executor  The executor.
+     * @return  {@code this}.
+     */
+    public DispatcherBuilder executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the metrics commands are recorded in, {@link CommandMetrics#DISABLED} by default.
+     *
+     * @param metrics  The metrics, like {@link CommandMetrics#recording()}.
+     * @return  {@code this}.
+     */
+    public DispatcherBuilder metrics(CommandMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Sets the rate limiter commands executed for a source go through, they aren't limited by default.
+     *
+     * @param rateLimiter  The rate limiter.
+     * @return  {@code this}.
+     */
+    public DispatcherBuilder rateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * Sets the most asynchronous commands that can be pending, more are turned down. There is no limit by default.
+     *
+     * @param maxPendingCommands  The most pending commands.
+     * @return  {@code this}.
+     */
+    public DispatcherBuilder maxPendingCommands(int maxPendingCommands) {
+        if(maxPendingCommands <= 0) {
+            throw new IllegalArgumentException("The most pending commands must be positive, got " + maxPendingCommands);
+        }
+        this.maxPendingCommands = maxPendingCommands;
+        return this;
+    }
+
+    /**
+     * Gets the suggestion ranking.
+     *
+     * @return  The suggestion ranking.
+     */
+    public SuggestionRanking getSuggestionRanking() {
+        return suggestionRanking;
+    }
+
+    /**
+     * Gets the most entries the parse cache holds.
+     *
+     * @return  The size, {@code 0} if parses aren't cached.
+     */
+    public int getParseCacheSize() {
+        return parseCacheSize;
+    }
+
+    /**
+     * Gets the eviction policy of the parse cache.
+     *
+     * @return  The eviction policy.
+     */
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * Gets the executor asynchronous commands run on.
+     *
+     * @return  The executor, or {@code null} for the default one.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets the metrics commands are recorded in.
+     *
+     * @return  The metrics.
+     */
+    public CommandMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the rate limiter.
+     *
+     * @return  The rate limiter, {@code null} if commands aren't limited.
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Gets the most asynchronous commands that can be pending.
+     *
+     * @return  The most pending commands.
+     */
+    public int getMaxPendingCommands() {
+        return maxPendingCommands;
+    }
+
+    /**
+     * Builds the {@link DispatcherBuilder}.
+     *
+     * @return  The dispatcher.
+     */
+    public CommandDispatcher build() {
+        return new CommandDispatcher(this);
+    }
+}
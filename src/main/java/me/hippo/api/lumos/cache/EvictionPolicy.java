@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.cache;
+
+/**
+ * Decides which entry a full {@link ParseCache} evicts.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public enum EvictionPolicy {
+
+    /**
+     * Evicts the least recently used entry.
+     */
+    LRU,
+
+    /**
+     * Evicts the oldest entry, lookups don't reorder anything so they are a bit cheaper.
+     */
+    FIFO
+}
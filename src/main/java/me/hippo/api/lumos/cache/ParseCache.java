@@ -0,0 +1,222 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.cache;
+
+import me.hippo.api.lumos.context.ParseResults;
+import me.hippo.api.lumos.tree.CommandTree;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of {@link ParseResults}, keyed by the command input.
+ * <p>
+ *     The cache is split into segments by the hash of the input, each with its own lock and its own share of the size.
+ *     An entry only counts as a hit for the {@link CommandTree} snapshot it was parsed against,
+ *     so registering a command can never hand out a stale parse.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class ParseCache {
+
+    /**
+     * The segments.
+     */
+    private final Segment[] segments;
+
+    /**
+     * The amount of hits.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The amount of misses.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The amount of evictions.
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new {@link ParseCache} with the desired size and eviction policy, and about two segments per processor.
+     *
+     * @param maximumSize  The most entries the cache holds.
+     * @param evictionPolicy  The eviction policy.
+     */
+    public ParseCache(int maximumSize, EvictionPolicy evictionPolicy) {
+        this(maximumSize, evictionPolicy, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+    }
+
+    /**
+     * Creates a new {@link ParseCache} with the desired size, eviction policy and amount of segments.
+     * <p>
+     *     The amount of segments is rounded down to a power of two no bigger than the size,
+     *     the entries are evicted per segment once it holds its share of the size.
+     * </p>
+     *
+     * @param maximumSize  The most entries the cache holds.
+     * @param evictionPolicy  The eviction policy.
+     * @param segmentCount  The amount of segments.
+     */
+    public ParseCache(int maximumSize, EvictionPolicy evictionPolicy, int segmentCount) {
+        if(maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive, got " + maximumSize);
+        }
+        if(segmentCount <= 0) {
+            throw new IllegalArgumentException("The segment count must be positive, got " + segmentCount);
+        }
+
+        segmentCount = Integer.highestOneBit(Math.min(segmentCount, maximumSize));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment((maximumSize + i) / segmentCount, evictionPolicy == EvictionPolicy.LRU);
+        }
+    }
+
+    /**
+     * Gets the cached parse of an input.
+     *
+     * @param input  The input.
+     * @param tree  The snapshot the parse has to belong to.
+     * @return  The parse, or {@code null} if there is none for the snapshot.
+     */
+    public ParseResults get(String input, CommandTree tree) {
+        ParseResults parseResults = segmentFor(input).get(input);
+        if(parseResults == null || parseResults.getTree() != tree) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return parseResults;
+    }
+
+    /**
+     * Caches the parse of an input.
+     *
+     * @param input  The input.
+     * @param parseResults  The parse.
+     */
+    public void put(String input, ParseResults parseResults) {
+        segmentFor(input).put(input, parseResults);
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Gets the amount of entries.
+     *
+     * @return  The amount of entries.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Gets the amount of lookups that found a parse.
+     *
+     * @return  The amount of hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the amount of lookups that didn't find a parse.
+     *
+     * @return  The amount of misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the amount of entries evicted to make room.
+     *
+     * @return  The amount of evictions.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the segment of an input.
+     *
+     * @param input  The input.
+     * @return  The segment.
+     */
+    private Segment segmentFor(String input) {
+        int hash = input.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * A part of the cache with its own lock.
+     */
+    private final class Segment {
+
+        /**
+         * The entries, in eviction order.
+         */
+        private final LinkedHashMap<String, ParseResults> entries;
+
+        private Segment(int maximumSize, boolean accessOrder) {
+            this.entries = new LinkedHashMap<String, ParseResults>(16, 0.75F, accessOrder) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ParseResults> eldest) {
+                    if(size() > maximumSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private synchronized ParseResults get(String input) {
+            return entries.get(input);
+        }
+
+        private synchronized void put(String input, ParseResults parseResults) {
+            entries.put(input, parseResults);
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+}
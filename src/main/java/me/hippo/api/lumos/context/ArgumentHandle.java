@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.context;
+
+/**
+ * A reference to an argument by name that remembers the slot the argument resolved to.
+ * <p>
+ *     Argument names are turned into slots when a command is compiled, the handle looks its slot up once
+ *     per argument layout and after that getting the value is an array read.
+ *     Commands whose paths have the same argument names share a layout, so they can share a handle too.
+ *     A handle only remembers one layout though: shared by commands with different layouts, it is looked up
+ *     again every time it goes from one to another, which is correct but no faster than a name.
+ *     The same goes for commands reached through a redirect, their layout is made per parse.
+ *     So create one handle per command, or per group of commands with the same arguments, next to the command
+ *     and not in the command itself.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class ArgumentHandle {
+
+    /**
+     * The argument name.
+     */
+    private final String name;
+
+    /**
+     * The slot resolved against the last layout.
+     */
+    private volatile Resolution resolution;
+
+    private ArgumentHandle(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates a new {@link ArgumentHandle} for the desired argument name.
+     *
+     * @param name  The argument name.
+     * @return  The handle.
+     */
+    public static ArgumentHandle of(String name) {
+        return new ArgumentHandle(name);
+    }
+
+    /**
+     * Gets the slot of the argument in a context.
+     *
+     * @param slotNames  The slot names of the context.
+     * @return  The slot, {@code -1} if the context has no such argument.
+     */
+    int slot(String[] slotNames) {
+        Resolution resolution = this.resolution;
+        if(resolution == null || resolution.slotNames != slotNames) {
+            resolution = new Resolution(slotNames, CommandContext.slotOf(slotNames, name));
+            this.resolution = resolution;
+        }
+        return resolution.slot;
+    }
+
+    /**
+     * Gets the argument name.
+     *
+     * @return  The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * A slot and the slot names it was resolved against.
+     */
+    private static final class Resolution {
+
+        /**
+         * The slot names.
+         */
+        private final String[] slotNames;
+
+        /**
+         * The slot.
+         */
+        private final int slot;
+
+        private Resolution(String[] slotNames, int slot) {
+            this.slotNames = slotNames;
+            this.slot = slot;
+        }
+    }
+}
@@ -17,16 +17,72 @@
 package me.hippo.api.lumos.context;
 
 /**
+ * The parsed value of an argument.
+ * <p>
+ *     Numbers and booleans are kept as primitives and only boxed if {@link #getValue()} asks for them,
+ *     the string value, and the value of text, is only cut out of the input if it is asked for.
+ * </p>
+ *
  * @author Hippo
- * @version 1.0.0, 07/26/2019
+ * @version 1.2.0, 10/18/2026
  * @since 1.0.0
  */
 public final class ArgumentValueWrapper {
 
     /**
-     * The value.
+     * The value is an object.
+     */
+    private static final int REFERENCE = 0;
+
+    /**
+     * The value is an integral number.
+     */
+    private static final int INTEGRAL = 1;
+
+    /**
+     * The value is a decimal number.
+     */
+    private static final int DECIMAL = 2;
+
+    /**
+     * The value is a boolean.
+     */
+    private static final int BOOLEAN = 3;
+
+    /**
+     * The value is the text of the input range, cut out the first time it is asked for.
+     */
+    private static final int TEXT = 4;
+
+    /**
+     * The kind of value.
+     */
+    private final int kind;
+
+    /**
+     * The primitive value, the bits of the double for decimals and {@code 1} or {@code 0} for booleans.
      */
-    private final Object value;
+    private final long primitive;
+
+    /**
+     * The value, boxed the first time it is asked for if it is a primitive.
+     */
+    private Object value;
+
+    /**
+     * The input the value was parsed from.
+     */
+    private final CharSequence input;
+
+    /**
+     * The start of the value in the input.
+     */
+    private final int start;
+
+    /**
+     * The end of the value in the input.
+     */
+    private final int end;
 
     /**
      * The string value.
@@ -34,16 +90,79 @@ public final class ArgumentValueWrapper {
      *     Ex: 69.0 would be "69.0"
      * </p>
      */
-    private final String valueString;
+    private String valueString;
 
     /**
      * Creates a new {@link ArgumentValueWrapper} with the desired value and string value.
-     * @param value
-     * @param valueString
+     *
+     * @param value  The value.
+     * @param valueString  The string value.
      */
     public ArgumentValueWrapper(Object value, String valueString) {
+        this(REFERENCE, 0L, value, valueString, 0, valueString.length());
+    }
+
+    private ArgumentValueWrapper(int kind, long primitive, Object value, CharSequence input, int start, int end) {
+        this.kind = kind;
+        this.primitive = primitive;
         this.value = value;
-        this.valueString = valueString;
+        this.input = input;
+        this.start = start;
+        this.end = end;
+        if(input instanceof String && start == 0 && end == input.length()) {
+            this.valueString = (String) input;
+        }
+    }
+
+    /**
+     * Creates a new {@link ArgumentValueWrapper} of an integral number, it boxes to a {@link Double}.
+     *
+     * @param value  The value.
+     * @param input  The input.
+     * @param start  The start of the value in the input.
+     * @param end  The end of the value in the input.
+     * @return  The wrapper.
+     */
+    public static ArgumentValueWrapper ofLong(long value, CharSequence input, int start, int end) {
+        return new ArgumentValueWrapper(INTEGRAL, value, null, input, start, end);
+    }
+
+    /**
+     * Creates a new {@link ArgumentValueWrapper} of a decimal number, it boxes to a {@link Double}.
+     *
+     * @param value  The value.
+     * @param input  The input.
+     * @param start  The start of the value in the input.
+     * @param end  The end of the value in the input.
+     * @return  The wrapper.
+     */
+    public static ArgumentValueWrapper ofDouble(double value, CharSequence input, int start, int end) {
+        return new ArgumentValueWrapper(DECIMAL, Double.doubleToRawLongBits(value), null, input, start, end);
+    }
+
+    /**
+     * Creates a new {@link ArgumentValueWrapper} of a boolean.
+     *
+     * @param value  The value.
+     * @param input  The input.
+     * @param start  The start of the value in the input.
+     * @param end  The end of the value in the input.
+     * @return  The wrapper.
+     */
+    public static ArgumentValueWrapper ofBoolean(boolean value, CharSequence input, int start, int end) {
+        return new ArgumentValueWrapper(BOOLEAN, value ? 1L : 0L, value, input, start, end);
+    }
+
+    /**
+     * Creates a new {@link ArgumentValueWrapper} of text, the value is the string value.
+     *
+     * @param input  The input.
+     * @param start  The start of the value in the input.
+     * @param end  The end of the value in the input.
+     * @return  The wrapper.
+     */
+    public static ArgumentValueWrapper ofText(CharSequence input, int start, int end) {
+        return new ArgumentValueWrapper(TEXT, 0L, null, input, start, end);
     }
 
     /**
@@ -52,15 +171,82 @@ public final class ArgumentValueWrapper {
      * @return  The value.
      */
     public Object getValue() {
+        if(value == null && kind != REFERENCE) {
+            value = kind == TEXT ? getValueString() : doubleValue();
+        }
         return value;
     }
 
+    /**
+     * Gets the value as a long, decimals are truncated.
+     *
+     * @return  The long value.
+     * @throws ClassCastException  If the value isn't a number.
+     */
+    public long longValue() {
+        switch (kind) {
+            case INTEGRAL:
+                return primitive;
+            case DECIMAL:
+                return (long) Double.longBitsToDouble(primitive);
+            default:
+                return ((Number) value).longValue();
+        }
+    }
+
+    /**
+     * Gets the value as an int, decimals are truncated.
+     *
+     * @return  The int value.
+     * @throws ClassCastException  If the value isn't a number.
+     */
+    public int intValue() {
+        switch (kind) {
+            case INTEGRAL:
+                return (int) primitive;
+            case DECIMAL:
+                return (int) Double.longBitsToDouble(primitive);
+            default:
+                return ((Number) value).intValue();
+        }
+    }
+
+    /**
+     * Gets the value as a double.
+     *
+     * @return  The double value.
+     * @throws ClassCastException  If the value isn't a number.
+     */
+    public double doubleValue() {
+        switch (kind) {
+            case INTEGRAL:
+                return primitive;
+            case DECIMAL:
+                return Double.longBitsToDouble(primitive);
+            default:
+                return ((Number) value).doubleValue();
+        }
+    }
+
+    /**
+     * Gets the value as a boolean.
+     *
+     * @return  The boolean value.
+     * @throws ClassCastException  If the value isn't a boolean.
+     */
+    public boolean booleanValue() {
+        return kind == BOOLEAN ? primitive != 0 : (Boolean) getValue();
+    }
+
     /**
      * Gets the string value.
      *
      * @return  The string value.
      */
     public String getValueString() {
+        if(valueString == null) {
+            valueString = input.subSequence(start, end).toString();
+        }
         return valueString;
     }
 }
@@ -16,158 +16,229 @@
 
 package me.hippo.api.lumos.context;
 
+import me.hippo.api.lumos.source.CommandSource;
+import me.hippo.api.lumos.util.NodeUtil;
 
-import me.hippo.api.lumos.CommandDispatcher;
-import me.hippo.api.lumos.argument.ArgumentType;
-import me.hippo.api.lumos.argument.impl.NumberArgumentType;
-import me.hippo.api.lumos.argument.impl.BooleanArgumentType;
-import me.hippo.api.lumos.argument.impl.StringArgumentType;
-import me.hippo.api.lumos.exception.CommandNotFoundException;
-import me.hippo.api.lumos.node.CommandNode;
-import me.hippo.api.lumos.node.argument.ArgumentCommandNode;
-import me.hippo.api.lumos.node.label.LabelCommandNode;
-import me.hippo.api.lumos.util.TypeUtil;
-
+import java.util.Collections;
 import java.util.Map;
-import java.util.NoSuchElementException;
-import java.util.Scanner;
 import java.util.TreeMap;
 
 /**
+ * The input of an executed command and the arguments parsed from it.
+ * <p>
+ *     The arguments are kept in slots, one per argument on the path to the command, in the order they were typed.
+ *     They can be looked up by name, or in constant time through an {@link ArgumentHandle}.
+ * </p>
+ *
  * @author Hippo
- * @version 1.0.0, 07/25/2019
+ * @version 1.2.0, 10/18/2026
  * @since 1.0.0
  */
 public final class CommandContext {
 
     /**
-     * A map that maps an argument with an input value.
+     * The command input.
      */
-    private final Map<String, ArgumentValueWrapper> arguments;
+    private final CharSequence input;
 
     /**
-     * Creates a new {@link CommandContext} and populates {@link #arguments}.
-     *
-     * @param input  The command input.
+     * The command input as a {@link String}, made the first time it is asked for.
      */
-    public CommandContext(String input) throws CommandNotFoundException {
-        this.arguments = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private String inputString;
 
-        Scanner scanner = new Scanner(input);
-        String commandName = scanner.next();
-        while (CommandDispatcher.get(commandName) == null) {
-            try {
-                commandName = commandName.concat(" ").concat(scanner.next());
-            }catch (NoSuchElementException e) {
-                throw new CommandNotFoundException("Command for input " + input + " not found.");
-            }
-        }
+    /**
+     * Whoever issued the command.
+     */
+    private final CommandSource source;
 
-        CommandNode commandNode = CommandDispatcher.get(commandName);
-
-        if(scanner.hasNext()) {
-            String argument = scanner.next().trim();
-
-            boolean next = false;
-
-            do {
-                if(argument.isEmpty()) {
-                    argument = scanner.next().trim();
-                }
-                if(next) {
-                    argument = argument.concat(" ").concat(scanner.next()).trim();
-                    next = false;
-                }
-                boolean shouldParse = true;
-                boolean isDefinite = false;
-                for (CommandNode child : commandNode.getChildren()) {
-                    if (child.getName().toLowerCase().startsWith(argument.toLowerCase()) && child instanceof LabelCommandNode) {
-                        if (child.getName().equalsIgnoreCase(argument)) {
-                            isDefinite = true;
-
-                        }
-                        shouldParse = false;
-                    }
-                }
-                if (shouldParse) {
-                    Double parsedDouble = TypeUtil.parseDouble(argument);
-                    Boolean parsedBoolean = TypeUtil.parseBoolean(argument);
-                    for (CommandNode child : commandNode.getChildren()) {
-
-                        if (child instanceof ArgumentCommandNode) {
-                            ArgumentCommandNode argumentNode = (ArgumentCommandNode) child;
-                            ArgumentType argumentType = argumentNode.getArgumentType();
-                            if (parsedDouble != null && argumentType instanceof NumberArgumentType) {
-                                arguments.put(child.getName(), new ArgumentValueWrapper(parsedDouble, argument));
-                                argument = "";
-                            } else if (parsedBoolean != null && argumentType instanceof BooleanArgumentType) {
-                                arguments.put(child.getName(), new ArgumentValueWrapper(parsedBoolean, argument));
-                                argument = "";
-                            } else if (argumentType instanceof StringArgumentType) {
-                                arguments.put(child.getName(), new ArgumentValueWrapper(argument, argument));
-                                argument = "";
-                            }
-                        }
-                    }
-                } else if (isDefinite) {
-                    commandNode = commandNode.getChild(argument);
-                    argument = "";
-                } else {
-                    next = true;
-                }
-            }while (scanner.hasNext());
-        }
+    /**
+     * The argument names, indexed by slot.
+     */
+    private final String[] slotNames;
 
-        /*String[] args = input.split(" ");
-        String command = args[0];
-        CommandNode node = CommandDispatcher.get(command);
+    /**
+     * The parsed arguments, indexed by slot.
+     */
+    private final ArgumentValueWrapper[] arguments;
 
-        for(int i = 1; i < args.length; i++) {
-            String arg = args[i];
+    /**
+     * Creates a new {@link CommandContext} with the desired input and parsed arguments.
+     *
+     * @param input  The command input.
+     * @param slotNames  The argument names, indexed by slot.
+     * @param arguments  The parsed arguments, indexed by slot, it can be longer than the names.
+     */
+    public CommandContext(CharSequence input, String[] slotNames, ArgumentValueWrapper[] arguments) {
+        this(input, CommandSource.CONSOLE, slotNames, arguments);
+    }
 
-            boolean label = false;
-            for (CommandNode child : node.getChildren()) {
-                if(child.getName().equalsIgnoreCase(arg) && child instanceof LabelCommandNode) {
-                    label = true;
-                }
-            }
+    private CommandContext(CharSequence input, CommandSource source, String[] slotNames, ArgumentValueWrapper[] arguments) {
+        this.input = input;
+        this.source = source;
+        this.slotNames = slotNames;
+        this.arguments = arguments;
+    }
 
-            if(!label) {
-                Double parsedDouble = TypeUtil.parseDouble(arg);
-                Boolean parsedBoolean = TypeUtil.parseBoolean(arg);
-                for (CommandNode child : node.getChildren()) {
-
-                    if(child instanceof ArgumentCommandNode) {
-                        ArgumentCommandNode argumentNode = (ArgumentCommandNode)child;
-                        ArgumentType argumentType = argumentNode.getArgumentType();
-                        if (parsedDouble != null && argumentType instanceof NumberArgumentType) {
-                            arguments.put(child.getName(), new ArgumentValueWrapper(parsedDouble, arg));
-                        } else if (parsedBoolean != null && argumentType instanceof BooleanArgumentType) {
-                            arguments.put(child.getName(), new ArgumentValueWrapper(parsedBoolean, arg));
-                        } else if(argumentType instanceof StringArgumentType){
-                            arguments.put(child.getName(), new ArgumentValueWrapper(arg, arg));
-                        }
-                    }
-                }
-            }else {
-                node = node.getChild(arg);
-            }
-        }*/
+    /**
+     * Creates a copy of this context for another source, the parsed arguments are shared.
+     *
+     * @param source  The source.
+     * @return  The context, {@code this} if the source is the same.
+     */
+    public CommandContext withSource(CommandSource source) {
+        return source == this.source ? this : new CommandContext(input, source, slotNames, arguments);
+    }
+
+    /**
+     * Gets whoever issued the command.
+     *
+     * @return  The source, {@link CommandSource#CONSOLE} unless it was executed for another one.
+     */
+    public CommandSource getSource() {
+        return source;
     }
 
     public Number getNumber(String arg) {
-        return (Number) arguments.get(arg).getValue();
+        return (Number) get(arg).getValue();
     }
 
     public Boolean getBoolean(String arg) {
-        return (Boolean)arguments.get(arg).getValue();
+        return get(arg).booleanValue();
     }
 
     public String getString(String arg) {
-        return (String)arguments.get(arg).getValue();
+        return (String) get(arg).getValue();
+    }
+
+    /**
+     * Gets a number argument as an int, without boxing it.
+     *
+     * @param arg  The argument name.
+     * @return  The int value, decimals are truncated.
+     */
+    public int getInt(String arg) {
+        return get(arg).intValue();
+    }
+
+    /**
+     * Gets a number argument as a long, without boxing it.
+     *
+     * @param arg  The argument name.
+     * @return  The long value, decimals are truncated.
+     */
+    public long getLong(String arg) {
+        return get(arg).longValue();
+    }
+
+    /**
+     * Gets a number argument as a double, without boxing it.
+     *
+     * @param arg  The argument name.
+     * @return  The double value.
+     */
+    public double getDouble(String arg) {
+        return get(arg).doubleValue();
+    }
+
+    public Number getNumber(ArgumentHandle arg) {
+        return (Number) get(arg).getValue();
+    }
+
+    public Boolean getBoolean(ArgumentHandle arg) {
+        return get(arg).booleanValue();
+    }
+
+    public String getString(ArgumentHandle arg) {
+        return (String) get(arg).getValue();
+    }
+
+    public int getInt(ArgumentHandle arg) {
+        return get(arg).intValue();
+    }
+
+    public long getLong(ArgumentHandle arg) {
+        return get(arg).longValue();
+    }
+
+    public double getDouble(ArgumentHandle arg) {
+        return get(arg).doubleValue();
+    }
+
+    /**
+     * Gets an argument by name, ignoring case.
+     *
+     * @param arg  The argument name.
+     * @return  The argument.
+     * @throws IllegalArgumentException  If the command has no such argument.
+     */
+    public ArgumentValueWrapper get(String arg) {
+        return get(slotOf(slotNames, arg), arg);
+    }
+
+    /**
+     * Gets an argument through its handle.
+     *
+     * @param arg  The handle.
+     * @return  The argument.
+     * @throws IllegalArgumentException  If the command has no such argument.
+     */
+    public ArgumentValueWrapper get(ArgumentHandle arg) {
+        return get(arg.slot(slotNames), arg.getName());
+    }
+
+    /**
+     * Checks if the command has an argument.
+     *
+     * @param arg  The argument name.
+     * @return  If it has the argument.
+     */
+    public boolean hasArgument(String arg) {
+        return slotOf(slotNames, arg) >= 0;
     }
 
     public Map<String, ArgumentValueWrapper> getArguments() {
-        return arguments;
+        Map<String, ArgumentValueWrapper> arguments = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int slot = 0; slot < slotNames.length; slot++) {
+            arguments.put(slotNames[slot], this.arguments[slot]);
+        }
+        return Collections.unmodifiableMap(arguments);
+    }
+
+    /**
+     * Gets the command input.
+     *
+     * @return  The input.
+     */
+    public String getInput() {
+        if(inputString == null) {
+            inputString = input.toString();
+        }
+        return inputString;
+    }
+
+    private ArgumentValueWrapper get(int slot, String arg) {
+        if(slot < 0) {
+            throw new IllegalArgumentException("The command has no argument named " + arg);
+        }
+        return arguments[slot];
+    }
+
+    /**
+     * Finds the slot of an argument name, ignoring case the way labels do.
+     * <p>
+     *     The names are searched from the last slot, so of two arguments with the same name the later one wins.
+     * </p>
+     *
+     * @param slotNames  The argument names, indexed by slot.
+     * @param arg  The argument name.
+     * @return  The slot, {@code -1} if there is no such argument.
+     */
+    static int slotOf(String[] slotNames, String arg) {
+        for (int slot = slotNames.length - 1; slot >= 0; slot--) {
+            if(NodeUtil.equalsFolded(slotNames[slot], arg)) {
+                return slot;
+            }
+        }
+        return -1;
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.context;
+
+import me.hippo.api.lumos.Command;
+import me.hippo.api.lumos.node.CommandNode;
+import me.hippo.api.lumos.tree.CommandTree;
+
+/**
+ * The result of parsing a command input once, shared between the dispatcher and the {@link CommandContext}.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class ParseResults {
+
+    /**
+     * The tree the input was parsed against.
+     */
+    private final CommandTree tree;
+
+    /**
+     * The id of the node the input resolved to.
+     */
+    private final int node;
+
+    /**
+     * The context holding the parsed arguments.
+     */
+    private final CommandContext context;
+
+    /**
+     * Creates a new {@link ParseResults} with the desired tree, node and context.
+     *
+     * @param tree  The tree.
+     * @param node  The node id.
+     * @param context  The context.
+     */
+    public ParseResults(CommandTree tree, int node, CommandContext context) {
+        this.tree = tree;
+        this.node = node;
+        this.context = context;
+    }
+
+    /**
+     * Gets the tree.
+     *
+     * @return  The tree.
+     */
+    public CommandTree getTree() {
+        return tree;
+    }
+
+    /**
+     * Gets the node id.
+     *
+     * @return  The node id.
+     */
+    public int getNodeId() {
+        return node;
+    }
+
+    /**
+     * Gets the node.
+     *
+     * @return  The node.
+     */
+    public CommandNode getNode() {
+        return tree.getNode(node);
+    }
+
+    /**
+     * Gets the command of the node.
+     *
+     * @return  The command, or {@code null} if the node isn't executable.
+     */
+    public Command getCommand() {
+        return tree.getCommand(node);
+    }
+
+    /**
+     * Gets the context.
+     *
+     * @return  The context.
+     */
+    public CommandContext getContext() {
+        return context;
+    }
+}
@@ -16,14 +16,53 @@
 
 package me.hippo.api.lumos.exception;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author Hippo
- * @version 1.1.0, 1/4/20
+ * @version 1.2.0, 10/18/2026
  * @since 1.1.0
  */
 public class CommandException extends Exception {
 
+    /**
+     * The labels the input might have meant, closest first.
+     */
+    private final List<String> corrections;
+
     public CommandException(String message) {
+        this(message, Collections.emptyList());
+    }
+
+    /**
+     * Creates a new {@link CommandException} with the desired message and corrections.
+     *
+     * @param message  The message.
+     * @param corrections  The labels the input might have meant, closest first.
+     */
+    public CommandException(String message, List<String> corrections) {
         super(message);
+        this.corrections = Collections.unmodifiableList(corrections);
+    }
+
+    /**
+     * Creates a new {@link CommandException} that may skip its stack trace, for exceptions that are thrown often.
+     *
+     * @param message  The message.
+     * @param writableStackTrace  If the stack trace is filled in.
+     */
+    protected CommandException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.corrections = Collections.emptyList();
+    }
+
+    /**
+     * Gets the labels the input might have meant, for a "did you mean" hint.
+     *
+     * @return  The corrections, closest first, empty if there are none.
+     */
+    public List<String> getCorrections() {
+        return corrections;
     }
 }
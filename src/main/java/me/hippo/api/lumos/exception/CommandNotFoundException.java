@@ -16,13 +16,25 @@
 
 package me.hippo.api.lumos.exception;
 
+import java.util.List;
+
 /**
  * @author Hippo
- * @version 1.1.0, 1/4/20
+ * @version 1.2.0, 10/18/2026
  * @since 1.1.0
  */
 public final class CommandNotFoundException extends CommandException {
     public CommandNotFoundException(String message) {
         super(message);
     }
+
+    /**
+     * Creates a new {@link CommandNotFoundException} with the desired message and corrections.
+     *
+     * @param message  The message.
+     * @param corrections  The labels the input might have meant, closest first.
+     */
+    public CommandNotFoundException(String message, List<String> corrections) {
+        super(message, corrections);
+    }
 }
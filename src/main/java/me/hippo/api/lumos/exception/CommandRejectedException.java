@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.exception;
+
+import me.hippo.api.lumos.ExecutionStatus;
+
+/**
+ * Completes the future of an asynchronous command that was turned down.
+ * <p>
+ *     Rejections are expected under load, so there is one shared instance per {@link ExecutionStatus}, without a stack trace.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class CommandRejectedException extends CommandException {
+
+    /**
+     * The rejection of a rate limited command.
+     */
+    public static final CommandRejectedException RATE_LIMITED = new CommandRejectedException(ExecutionStatus.RATE_LIMITED, "The command is over its rate limit.");
+
+    /**
+     * The rejection of a command submitted while too many were pending.
+     */
+    public static final CommandRejectedException SATURATED = new CommandRejectedException(ExecutionStatus.SATURATED, "Too many commands are pending.");
+
+    /**
+     * The rejection of a command submitted once the dispatcher was shut down.
+     */
+    public static final CommandRejectedException SHUT_DOWN = new CommandRejectedException(ExecutionStatus.SHUT_DOWN, "The dispatcher is shut down.");
+
+    /**
+     * Why the command was turned down.
+     */
+    private final ExecutionStatus status;
+
+    private CommandRejectedException(ExecutionStatus status, String message) {
+        super(message, false);
+        this.status = status;
+    }
+
+    /**
+     * Gets the rejection of a status.
+     *
+     * @param status  The status, not {@link ExecutionStatus#EXECUTED}.
+     * @return  The rejection.
+     */
+    public static CommandRejectedException of(ExecutionStatus status) {
+        switch (status) {
+            case RATE_LIMITED:
+                return RATE_LIMITED;
+            case SATURATED:
+                return SATURATED;
+            case SHUT_DOWN:
+                return SHUT_DOWN;
+            default:
+                throw new IllegalArgumentException(status + " is not a rejection");
+        }
+    }
+
+    /**
+     * Gets why the command was turned down.
+     *
+     * @return  The status.
+     */
+    public ExecutionStatus getStatus() {
+        return status;
+    }
+}
@@ -16,9 +16,11 @@
 
 package me.hippo.api.lumos.exception;
 
+import java.util.List;
+
 /**
  * @author Hippo
- * @version 1.1.0, 07/25/2019
+ * @version 1.2.0, 10/18/2026
  * @since 1.0.0
  */
 public final class CommandSyntaxException extends CommandException {
@@ -26,4 +28,14 @@ public final class CommandSyntaxException extends CommandException {
     public CommandSyntaxException(String message) {
         super(message);
     }
+
+    /**
+     * Creates a new {@link CommandSyntaxException} with the desired message and corrections.
+     *
+     * @param message  The message.
+     * @param corrections  The labels the input might have meant, closest first.
+     */
+    public CommandSyntaxException(String message, List<String> corrections) {
+        super(message, corrections);
+    }
 }
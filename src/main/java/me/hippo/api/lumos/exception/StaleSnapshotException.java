@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.exception;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a stored command tree snapshot doesn't belong to the registered commands, or can't be read at all.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class StaleSnapshotException extends IOException {
+
+    /**
+     * Creates a new {@link StaleSnapshotException} with the desired message.
+     *
+     * @param message  The message.
+     */
+    public StaleSnapshotException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a new {@link StaleSnapshotException} with the desired message and cause.
+     *
+     * @param message  The message.
+     * @param cause  The cause.
+     */
+    public StaleSnapshotException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.limit;
+
+import me.hippo.api.lumos.context.ParseResults;
+import me.hippo.api.lumos.source.CommandSource;
+import me.hippo.api.lumos.tree.CommandTree;
+import me.hippo.api.lumos.util.NodeUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Limits how fast commands are executed, per {@link CommandSource} and per command path.
+ * <p>
+ *     Every source gets its own {@link TokenBucket}, with the default source limit or its own one.
+ *     A path limit is a single bucket shared by every source, and covers the commands at and below the path.
+ *     The bucket of a node is resolved once per {@link CommandTree} snapshot, so checking it is an array read.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class RateLimiter {
+
+    /**
+     * Stands for "no limit" in the node buckets.
+     */
+    private static final TokenBucket UNLIMITED = new TokenBucket(1, 1);
+
+    /**
+     * The rate every source gets, {@code 0} for no limit.
+     */
+    private volatile double sourceRate;
+
+    /**
+     * The burst every source gets.
+     */
+    private volatile int sourceBurst;
+
+    /**
+     * The buckets of the sources with their own limit.
+     */
+    private final Map<CommandSource, TokenBucket> sourceLimits = new ConcurrentHashMap<>();
+
+    /**
+     * The bucket of every other source that executed a command.
+     */
+    private final Map<CommandSource, TokenBucket> sourceBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * The bucket of every limited path, keyed by folded path.
+     */
+    private final Map<String, TokenBucket> pathBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * The buckets of the nodes of the latest snapshot.
+     */
+    private volatile Nodes current;
+
+    /**
+     * Limits every source to {@code permitsPerSecond} commands, with bursts of up to {@code burst}.
+     *
+     * @param permitsPerSecond  The rate.
+     * @param burst  The burst.
+     * @return  {@code this}.
+     */
+    public RateLimiter limitSources(double permitsPerSecond, int burst) {
+        if(!(permitsPerSecond > 0) || burst <= 0) {
+            throw new IllegalArgumentException("The rate and the burst must be positive, got " + permitsPerSecond + " and " + burst);
+        }
+        this.sourceRate = permitsPerSecond;
+        this.sourceBurst = burst;
+        sourceBuckets.clear();
+        return this;
+    }
+
+    /**
+     * Gives a source its own limit.
+     *
+     * @param source  The source.
+     * @param permitsPerSecond  The rate.
+     * @param burst  The burst.
+     * @return  {@code this}.
+     */
+    public RateLimiter limitSource(CommandSource source, double permitsPerSecond, int burst) {
+        sourceLimits.put(source, new TokenBucket(permitsPerSecond, burst));
+        return this;
+    }
+
+    /**
+     * Limits the commands at and below a path, across every source.
+     *
+     * @param path  The path, like {@code "hack tool ip"} or {@code "hack tool <user>"}, see {@link CommandTree#getPath(int)}.
+     * @param permitsPerSecond  The rate.
+     * @param burst  The burst.
+     * @return  {@code this}.
+     */
+    public RateLimiter limitPath(String path, double permitsPerSecond, int burst) {
+        pathBuckets.put(NodeUtil.fold(path), new TokenBucket(permitsPerSecond, burst));
+        current = null;
+        return this;
+    }
+
+    /**
+     * Forgets the bucket of a source that is gone, like a disconnected client.
+     *
+     * @param source  The source.
+     */
+    public void removeSource(CommandSource source) {
+        sourceBuckets.remove(source);
+        sourceLimits.remove(source);
+    }
+
+    /**
+     * Takes a token from the bucket of a source.
+     *
+     * @param source  The source.
+     * @return  If the source can execute a command.
+     */
+    public boolean tryAcquire(CommandSource source) {
+        TokenBucket bucket = sourceLimits.isEmpty() ? null : sourceLimits.get(source);
+        if(bucket == null) {
+            bucket = sourceBuckets.get(source);
+        }
+        if(bucket == null) {
+            if(sourceRate <= 0) {
+                return true;
+            }
+            bucket = sourceBuckets.computeIfAbsent(source, key -> new TokenBucket(sourceRate, sourceBurst));
+        }
+        return bucket.tryAcquire();
+    }
+
+    /**
+     * Takes a token from the bucket of the path a command was parsed to.
+     *
+     * @param parseResults  The parsed command.
+     * @return  If the command can be executed.
+     */
+    public boolean tryAcquire(ParseResults parseResults) {
+        if(pathBuckets.isEmpty()) {
+            return true;
+        }
+        TokenBucket bucket = getBucket(parseResults.getTree(), parseResults.getNodeId());
+        return bucket == UNLIMITED || bucket.tryAcquire();
+    }
+
+    /**
+     * Gets the bucket of a node, the one of its closest limited ancestor.
+     *
+     * @param tree  The snapshot.
+     * @param node  The id.
+     * @return  The bucket, {@link #UNLIMITED} if no path above it is limited.
+     */
+    private TokenBucket getBucket(CommandTree tree, int node) {
+        Nodes nodes = current;
+        if(nodes == null || nodes.tree != tree) {
+            nodes = new Nodes(tree);
+            current = nodes;
+        }
+
+        TokenBucket bucket = nodes.buckets.get(node);
+        if(bucket == null) {
+            bucket = pathBuckets.get(NodeUtil.fold(tree.getPath(node)));
+            if(bucket == null) {
+                bucket = tree.getParent(node) > CommandTree.ROOT ? getBucket(tree, tree.getParent(node)) : UNLIMITED;
+            }
+            nodes.buckets.set(node, bucket);
+        }
+        return bucket;
+    }
+
+    /**
+     * The buckets of the nodes of one {@link CommandTree} snapshot.
+     */
+    private static final class Nodes {
+
+        /**
+         * The snapshot.
+         */
+        private final CommandTree tree;
+
+        /**
+         * The buckets, indexed by node id, filled in as the nodes are used.
+         */
+        private final AtomicReferenceArray<TokenBucket> buckets;
+
+        private Nodes(CommandTree tree) {
+            this.tree = tree;
+            this.buckets = new AtomicReferenceArray<>(tree.size());
+        }
+    }
+}
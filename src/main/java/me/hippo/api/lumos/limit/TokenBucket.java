@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket.
+ * <p>
+ *     Rather than a token count and a refill time, the bucket keeps a single time, the moment it will be full again,
+ *     as in the generic cell rate algorithm. Taking a token pushes that moment back by one refill interval, and a token
+ *     can be taken as long as the moment isn't more than {@code burst} intervals away. That is one compare and set per token.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class TokenBucket {
+
+    /**
+     * The nanoseconds it takes to refill one token.
+     */
+    private final long interval;
+
+    /**
+     * How far the full time can be ahead of now for a token to be taken.
+     */
+    private final long tolerance;
+
+    /**
+     * The {@link System#nanoTime()} at which the bucket is full again.
+     */
+    private final AtomicLong fullAt;
+
+    /**
+     * Creates a new, full, {@link TokenBucket} with the desired rate and burst.
+     *
+     * @param permitsPerSecond  The tokens refilled per second.
+     * @param burst  The most tokens the bucket holds.
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if(!(permitsPerSecond > 0) || burst <= 0) {
+            throw new IllegalArgumentException("The rate and the burst must be positive, got " + permitsPerSecond + " and " + burst);
+        }
+        this.interval = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.tolerance = interval * (burst - 1);
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Takes a token if there is one.
+     *
+     * @return  If a token was taken.
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long fullAt = this.fullAt.get();
+            long from = fullAt - now > 0 ? fullAt : now;
+            if(from - now > tolerance) {
+                return false;
+            }
+            if(this.fullAt.compareAndSet(fullAt, from + interval)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.metrics;
+
+import me.hippo.api.lumos.context.ParseResults;
+import me.hippo.api.lumos.tree.CommandTree;
+
+/**
+ * Records how the commands of a dispatcher are used.
+ * <p>
+ *     The dispatcher only measures time if {@link #isEnabled()}, so with {@link #DISABLED} the calls are never made.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public interface CommandMetrics {
+
+    /**
+     * Records nothing, its snapshots are empty.
+     */
+    CommandMetrics DISABLED = new DisabledMetrics();
+
+    /**
+     * Checks if the metrics record anything.
+     *
+     * @return  If they are enabled.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called whenever a dispatcher publishes a new snapshot, before anything is parsed with it.
+     *
+     * @param tree  The new snapshot.
+     */
+    default void prepare(CommandTree tree) {}
+
+    /**
+     * Called when an input was parsed.
+     *
+     * @param parseResults  The parsed command.
+     * @param nanos  How long parsing took.
+     */
+    void recordParse(ParseResults parseResults, long nanos);
+
+    /**
+     * Called when an input didn't match any command.
+     *
+     * @param nanos  How long parsing took.
+     */
+    void recordNotFound(long nanos);
+
+    /**
+     * Called when an input didn't fit its command.
+     *
+     * @param nanos  How long parsing took.
+     */
+    void recordSyntaxError(long nanos);
+
+    /**
+     * Called when an input parsed to a node without a command, which is only found out when it is executed.
+     * <p>
+     *     It is counted as a syntax error without a latency, the parse itself went through and was recorded already.
+     * </p>
+     */
+    void recordSyntaxError();
+
+    /**
+     * Called when a command was executed.
+     *
+     * @param parseResults  The parsed command.
+     * @param nanos  How long {@link me.hippo.api.lumos.Command#execute} took.
+     * @param failed  If the command threw.
+     */
+    void recordExecution(ParseResults parseResults, long nanos, boolean failed);
+
+    /**
+     * Takes a snapshot of the metrics.
+     *
+     * @return  The snapshot.
+     */
+    MetricsSnapshot snapshot();
+
+    /**
+     * Creates metrics that keep counters and latency histograms for every command path.
+     *
+     * @return  The metrics.
+     */
+    static CommandMetrics recording() {
+        return new RecordingMetrics();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Exposes {@link CommandMetrics} over JMX, every attribute read takes a new snapshot.
+ * <pre>
+ *     CommandMetricsBean.register(commandDispatcher.getMetrics(), "commands");
+ * </pre>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class CommandMetricsBean implements CommandMetricsMXBean {
+
+    /**
+     * The metrics.
+     */
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a new {@link CommandMetricsBean} for the desired metrics.
+     *
+     * @param metrics  The metrics.
+     */
+    public CommandMetricsBean(CommandMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server, as {@code me.hippo.api.lumos:type=CommandMetrics,name=<name>}.
+     *
+     * @param metrics  The metrics.
+     * @param name  The name.
+     * @return  The name the bean was registered as.
+     * @throws JMException  If the bean couldn't be registered.
+     */
+    public static ObjectName register(CommandMetrics metrics, String name) throws JMException {
+        ObjectName objectName = new ObjectName("me.hippo.api.lumos:type=CommandMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(new CommandMetricsBean(metrics), objectName);
+        return objectName;
+    }
+
+    @Override
+    public long getNotFoundCount() {
+        return metrics.snapshot().getNotFoundCount();
+    }
+
+    @Override
+    public long getSyntaxErrorCount() {
+        return metrics.snapshot().getSyntaxErrorCount();
+    }
+
+    @Override
+    public long getNotFoundLatencyP99() {
+        return metrics.snapshot().getNotFoundLatency().getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getSyntaxErrorLatencyP99() {
+        return metrics.snapshot().getSyntaxErrorLatency().getValueAtPercentile(99);
+    }
+
+    @Override
+    public Map<String, Long> getExecutionCounts() {
+        return collect(CommandStats::getExecutionCount);
+    }
+
+    @Override
+    public Map<String, Long> getFailureCounts() {
+        return collect(CommandStats::getFailureCount);
+    }
+
+    @Override
+    public Map<String, Long> getParseLatencyP99() {
+        return collect(stats -> stats.getParseLatency().getValueAtPercentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getExecuteLatencyP50() {
+        return collect(stats -> stats.getExecuteLatency().getValueAtPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getExecuteLatencyP99() {
+        return collect(stats -> stats.getExecuteLatency().getValueAtPercentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getExecuteLatencyMax() {
+        return collect(stats -> stats.getExecuteLatency().getMax());
+    }
+
+    /**
+     * Collects a value of every command path.
+     *
+     * @param value  The value.
+     * @return  The values by path.
+     */
+    private Map<String, Long> collect(ToLongFunction<CommandStats> value) {
+        Map<String, Long> values = new TreeMap<>();
+        for (CommandStats stats : metrics.snapshot().getCommands().values()) {
+            values.put(stats.getPath(), value.applyAsLong(stats));
+        }
+        return values;
+    }
+}
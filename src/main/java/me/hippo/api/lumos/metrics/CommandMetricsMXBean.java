@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX view of {@link CommandMetrics}, see {@link CommandMetricsBean}.
+ * <p>
+ *     The maps are keyed by command path, latencies are in nanoseconds.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public interface CommandMetricsMXBean {
+
+    long getNotFoundCount();
+
+    long getSyntaxErrorCount();
+
+    long getNotFoundLatencyP99();
+
+    long getSyntaxErrorLatencyP99();
+
+    Map<String, Long> getExecutionCounts();
+
+    Map<String, Long> getFailureCounts();
+
+    Map<String, Long> getParseLatencyP99();
+
+    Map<String, Long> getExecuteLatencyP50();
+
+    Map<String, Long> getExecuteLatencyP99();
+
+    Map<String, Long> getExecuteLatencyMax();
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.metrics;
+
+/**
+ * A snapshot of the metrics of one command path.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class CommandStats {
+
+    /**
+     * The path.
+     */
+    private final String path;
+
+    /**
+     * The amount of executions that threw.
+     */
+    private final long failureCount;
+
+    /**
+     * How long parsing the inputs of the path took, in nanoseconds.
+     */
+    private final HistogramSnapshot parseLatency;
+
+    /**
+     * How long executing the command took, in nanoseconds.
+     */
+    private final HistogramSnapshot executeLatency;
+
+    CommandStats(String path, long failureCount, HistogramSnapshot parseLatency, HistogramSnapshot executeLatency) {
+        this.path = path;
+        this.failureCount = failureCount;
+        this.parseLatency = parseLatency;
+        this.executeLatency = executeLatency;
+    }
+
+    /**
+     * Gets the path, the labels and {@code <argument>} names from the root, separated by spaces.
+     *
+     * @return  The path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the amount of inputs parsed to the path.
+     *
+     * @return  The amount.
+     */
+    public long getParseCount() {
+        return parseLatency.getCount();
+    }
+
+    /**
+     * Gets the amount of executions.
+     *
+     * @return  The amount.
+     */
+    public long getExecutionCount() {
+        return executeLatency.getCount();
+    }
+
+    /**
+     * Gets the amount of executions that threw.
+     *
+     * @return  The amount.
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Gets the share of executions that threw.
+     *
+     * @return  The error rate, from {@code 0} to {@code 1}.
+     */
+    public double getErrorRate() {
+        long executions = getExecutionCount();
+        return executions == 0 ? 0 : (double) failureCount / executions;
+    }
+
+    /**
+     * Gets how long parsing the inputs of the path took, in nanoseconds.
+     *
+     * @return  The parse latency.
+     */
+    public HistogramSnapshot getParseLatency() {
+        return parseLatency;
+    }
+
+    /**
+     * Gets how long executing the command took, in nanoseconds.
+     *
+     * @return  The execute latency.
+     */
+    public HistogramSnapshot getExecuteLatency() {
+        return executeLatency;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.metrics;
+
+import me.hippo.api.lumos.context.ParseResults;
+
+import java.util.Collections;
+
+/**
+ * The {@link CommandMetrics#DISABLED} metrics.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+final class DisabledMetrics implements CommandMetrics {
+
+    /**
+     * The empty snapshot.
+     */
+    private static final MetricsSnapshot EMPTY = new MetricsSnapshot(new LatencyHistogram().snapshot(), new LatencyHistogram().snapshot(), 0L, Collections.emptyMap());
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordParse(ParseResults parseResults, long nanos) {}
+
+    @Override
+    public void recordNotFound(long nanos) {}
+
+    @Override
+    public void recordSyntaxError(long nanos) {}
+
+    @Override
+    public void recordSyntaxError() {}
+
+    @Override
+    public void recordExecution(ParseResults parseResults, long nanos, boolean failed) {}
+
+    @Override
+    public MetricsSnapshot snapshot() {
+        return EMPTY;
+    }
+}
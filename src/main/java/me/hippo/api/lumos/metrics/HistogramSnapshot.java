@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.metrics;
+
+/**
+ * An immutable copy of a {@link LatencyHistogram}.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class HistogramSnapshot {
+
+    /**
+     * The counts, indexed by bucket.
+     */
+    private final long[] counts;
+
+    /**
+     * The amount of values.
+     */
+    private final long count;
+
+    /**
+     * The sum of the values.
+     */
+    private final long sum;
+
+    /**
+     * The highest value.
+     */
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Gets the amount of values.
+     *
+     * @return  The amount of values.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean of the values.
+     *
+     * @return  The mean, {@code 0} if there are no values.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Gets the highest value.
+     *
+     * @return  The highest value.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the value that {@code percentile} percent of the values are at or below.
+     *
+     * @param percentile  The percentile, from {@code 0} to {@code 100}.
+     * @return  The value, rounded up to the end of its bucket, {@code 0} if there are no values.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if(seen >= rank) {
+                return Math.min(LatencyHistogram.highestValueOf(bucket), max);
+            }
+        }
+        return 0;
+    }
+}
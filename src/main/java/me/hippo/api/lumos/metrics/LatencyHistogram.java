@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent latency histogram with log-linear buckets, in the style of an HDR histogram.
+ * <p>
+ *     Values below {@code 16} get a bucket each, above that every power of two is split into {@code 16} buckets,
+ *     so a value is off by at most {@code 1/16} of itself. Values above {@code 2^40} nanoseconds, about 18 minutes,
+ *     share the last buckets.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The bits of precision below the highest bit of a value.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The amount of buckets every power of two is split into.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The highest power of two with buckets of its own.
+     */
+    private static final int MAX_MAGNITUDE = 40;
+
+    /**
+     * The amount of buckets.
+     */
+    static final int BUCKETS = SUB_BUCKETS + (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    /**
+     * The counts, indexed by bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The amount of values.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * The sum of the values.
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * The highest value.
+     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Records a value.
+     *
+     * @param value  The value, negative values count as {@code 0}.
+     */
+    public void record(long value) {
+        value = Math.max(0L, value);
+        counts.getAndIncrement(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Takes a snapshot of the histogram.
+     * <p>
+     *     Values recorded while the snapshot is taken may or may not be in it.
+     * </p>
+     *
+     * @return  The snapshot.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = this.counts.get(bucket);
+        }
+        return new HistogramSnapshot(counts, count.sum(), sum.sum(), max.get());
+    }
+
+    /**
+     * Gets the bucket of a value.
+     *
+     * @param value  The value.
+     * @return  The bucket.
+     */
+    static int bucketOf(long value) {
+        if(value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if(magnitude > MAX_MAGNITUDE) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return SUB_BUCKETS + (magnitude - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the highest value of a bucket.
+     *
+     * @param bucket  The bucket.
+     * @return  The highest value.
+     */
+    static long highestValueOf(int bucket) {
+        if(bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int magnitude = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (magnitude - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.metrics;
+
+import java.util.Map;
+
+/**
+ * A snapshot of {@link CommandMetrics}.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class MetricsSnapshot {
+
+    /**
+     * How long it took to turn down the inputs that didn't match any command.
+     */
+    private final HistogramSnapshot notFoundLatency;
+
+    /**
+     * How long it took to turn down the inputs that didn't fit their command.
+     */
+    private final HistogramSnapshot syntaxErrorLatency;
+
+    /**
+     * The amount of inputs that parsed to a node without a command, which are syntax errors without a latency.
+     */
+    private final long unexecutableCount;
+
+    /**
+     * The stats of every command path that was parsed, sorted by path.
+     */
+    private final Map<String, CommandStats> commands;
+
+    MetricsSnapshot(HistogramSnapshot notFoundLatency, HistogramSnapshot syntaxErrorLatency, long unexecutableCount, Map<String, CommandStats> commands) {
+        this.notFoundLatency = notFoundLatency;
+        this.syntaxErrorLatency = syntaxErrorLatency;
+        this.unexecutableCount = unexecutableCount;
+        this.commands = commands;
+    }
+
+    /**
+     * Gets the amount of inputs that didn't match any command, counted as {@link me.hippo.api.lumos.exception.CommandNotFoundException}s.
+     *
+     * @return  The amount.
+     */
+    public long getNotFoundCount() {
+        return notFoundLatency.getCount();
+    }
+
+    /**
+     * Gets the amount of inputs that didn't fit their command, counted as {@link me.hippo.api.lumos.exception.CommandSyntaxException}s.
+     * <p>
+     *     Inputs that parsed to a node without a command are included, though they aren't in the {@link #getSyntaxErrorLatency() latency}.
+     * </p>
+     *
+     * @return  The amount.
+     */
+    public long getSyntaxErrorCount() {
+        return syntaxErrorLatency.getCount() + unexecutableCount;
+    }
+
+    /**
+     * Gets how long parsing took for the inputs that didn't match any command.
+     *
+     * @return  The latency histogram.
+     */
+    public HistogramSnapshot getNotFoundLatency() {
+        return notFoundLatency;
+    }
+
+    /**
+     * Gets how long parsing took for the inputs that didn't fit their command, the ones that parsed to a node without a command aside.
+     *
+     * @return  The latency histogram.
+     */
+    public HistogramSnapshot getSyntaxErrorLatency() {
+        return syntaxErrorLatency;
+    }
+
+    /**
+     * Gets the stats of every command path that was parsed.
+     *
+     * @return  The stats by path, sorted by path.
+     */
+    public Map<String, CommandStats> getCommands() {
+        return commands;
+    }
+
+    /**
+     * Gets the stats of a command path.
+     *
+     * @param path  The path, like {@code "hack tool ip ping <ip>"}.
+     * @return  The stats, or {@code null} if the path was never parsed.
+     */
+    public CommandStats getCommand(String path) {
+        return commands.get(path);
+    }
+}
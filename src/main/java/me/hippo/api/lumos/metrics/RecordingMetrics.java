@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.metrics;
+
+import me.hippo.api.lumos.context.ParseResults;
+import me.hippo.api.lumos.tree.CommandTree;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps {@link LongAdder} counters and {@link LatencyHistogram}s for every command path.
+ * <p>
+ *     The metrics are kept by path, so they carry over when a command is registered again.
+ *     Every snapshot a dispatcher publishes gets an array indexed by node id in {@link #prepare(CommandTree)},
+ *     the metrics of a node are looked up by path once and then kept in it.
+ *     Parses of any other snapshot look the path up every time.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+final class RecordingMetrics implements CommandMetrics {
+
+    /**
+     * How long it took to turn down the inputs that didn't match any command.
+     */
+    private final LatencyHistogram notFoundLatency = new LatencyHistogram();
+
+    /**
+     * How long it took to turn down the inputs that didn't fit their command.
+     */
+    private final LatencyHistogram syntaxErrorLatency = new LatencyHistogram();
+
+    /**
+     * The amount of inputs that parsed to a node without a command.
+     */
+    private final LongAdder unexecutableCount = new LongAdder();
+
+    /**
+     * The metrics of every path.
+     */
+    private final Map<String, PathMetrics> paths = new ConcurrentHashMap<>();
+
+    /**
+     * The metrics of the nodes of the latest prepared snapshot.
+     */
+    private volatile Nodes current;
+
+    @Override
+    public void prepare(CommandTree tree) {
+        current = new Nodes(tree);
+    }
+
+    @Override
+    public void recordParse(ParseResults parseResults, long nanos) {
+        getMetrics(parseResults).parseLatency.record(nanos);
+    }
+
+    @Override
+    public void recordNotFound(long nanos) {
+        notFoundLatency.record(nanos);
+    }
+
+    @Override
+    public void recordSyntaxError(long nanos) {
+        syntaxErrorLatency.record(nanos);
+    }
+
+    @Override
+    public void recordSyntaxError() {
+        unexecutableCount.increment();
+    }
+
+    @Override
+    public void recordExecution(ParseResults parseResults, long nanos, boolean failed) {
+        PathMetrics metrics = getMetrics(parseResults);
+        metrics.executeLatency.record(nanos);
+        if(failed) {
+            metrics.failureCount.increment();
+        }
+    }
+
+    @Override
+    public MetricsSnapshot snapshot() {
+        Map<String, CommandStats> commands = new TreeMap<>();
+        for (PathMetrics metrics : paths.values()) {
+            commands.put(metrics.path, new CommandStats(metrics.path, metrics.failureCount.sum(),
+                    metrics.parseLatency.snapshot(), metrics.executeLatency.snapshot()));
+        }
+        return new MetricsSnapshot(notFoundLatency.snapshot(), syntaxErrorLatency.snapshot(), unexecutableCount.sum(), commands);
+    }
+
+    /**
+     * Gets the metrics of the path a command was parsed to.
+     *
+     * @param parseResults  The parsed command.
+     * @return  The metrics.
+     */
+    private PathMetrics getMetrics(ParseResults parseResults) {
+        CommandTree tree = parseResults.getTree();
+        int node = parseResults.getNodeId();
+        Nodes nodes = current;
+        if(nodes == null || nodes.tree != tree) {
+            return paths.computeIfAbsent(tree.getPath(node), PathMetrics::new);
+        }
+
+        PathMetrics metrics = nodes.metrics.get(node);
+        if(metrics == null) {
+            metrics = paths.computeIfAbsent(tree.getPath(node), PathMetrics::new);
+            nodes.metrics.set(node, metrics);
+        }
+        return metrics;
+    }
+
+    /**
+     * The metrics of one path.
+     */
+    private static final class PathMetrics {
+
+        /**
+         * The path.
+         */
+        private final String path;
+
+        /**
+         * The amount of executions that threw.
+         */
+        private final LongAdder failureCount = new LongAdder();
+
+        /**
+         * How long parsing took.
+         */
+        private final LatencyHistogram parseLatency = new LatencyHistogram();
+
+        /**
+         * How long executing took.
+         */
+        private final LatencyHistogram executeLatency = new LatencyHistogram();
+
+        private PathMetrics(String path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * The metrics of the nodes of one {@link CommandTree} snapshot.
+     */
+    private static final class Nodes {
+
+        /**
+         * The snapshot.
+         */
+        private final CommandTree tree;
+
+        /**
+         * The metrics, indexed by node id, filled in as the nodes are used.
+         */
+        private final AtomicReferenceArray<PathMetrics> metrics;
+
+        private Nodes(CommandTree tree) {
+            this.tree = tree;
+            this.metrics = new AtomicReferenceArray<>(tree.size());
+        }
+    }
+}
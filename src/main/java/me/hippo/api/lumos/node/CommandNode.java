@@ -17,30 +17,76 @@
 package me.hippo.api.lumos.node;
 
 import me.hippo.api.lumos.Command;
+import me.hippo.api.lumos.source.CommandSource;
+import me.hippo.api.lumos.util.NodeUtil;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * @author Hippo
- * @version 1.0.0, 07/25/2019
+ * @version 1.2.0, 10/18/2026
  * @since 1.0.0
  */
 public abstract class CommandNode {
 
     /**
-     * A map to store all the {@link CommandNode}'s children.
+     * The children of nodes that have none, shared by all of them.
      */
-    private final Map<String, CommandNode> children;
+    private static final CommandNode[] NO_CHILDREN = new CommandNode[0];
+
+    /**
+     * The most children kept in an array, nodes with more get a {@link WideChildren} map.
+     */
+    private static final int MAX_NARROW_CHILDREN = 8;
+
+    /**
+     * The {@link CommandNode}'s children, in the order they were added.
+     * <p>
+     *     Most nodes have a few children or none, so the container is sized to them: leaves share {@link #NO_CHILDREN},
+     *     up to {@link #MAX_NARROW_CHILDREN} children are an exactly sized {@code CommandNode[]} that is copied when a child is added,
+     *     and wider nodes get a {@link WideChildren} map, so building and looking up a wide node stays linear in its fan-out.
+     *     Children are told apart by their {@link #getKey() key}, so two names that only differ in case are the same child.
+     *     Materializing the lazy children swaps in a new container, so readers never see one being changed.
+     * </p>
+     */
+    private volatile Object children = NO_CHILDREN;
+
+    /**
+     * The folded name, see {@link #getKey()}.
+     */
+    private String key;
+
+    /**
+     * Supplies the children that aren't made until they are needed, {@code null} once they are or if there are none.
+     */
+    private volatile Supplier<? extends Collection<? extends CommandNode>> lazyChildren;
 
     /**
      * The {@link Command} that the node will execute.
      */
     private Command command;
 
+    /**
+     * The permission bits a source needs to see the node.
+     */
+    private long requiredPermissions;
+
+    /**
+     * The requirement a source has to meet to see the node, {@code null} if there is none.
+     */
+    private Predicate<CommandSource> requirement;
+
+    /**
+     * The node whose children this node goes on with, {@code null} if it has its own.
+     */
+    private CommandNode redirect;
+
     public CommandNode() {
-        this.children = new HashMap<>();
     }
 
     /**
@@ -50,13 +96,142 @@ public abstract class CommandNode {
      */
     public abstract String getName();
 
+    /**
+     * Gets the folded name the node is matched by, lower case with single spaces between the tokens.
+     * <p>
+     *     The name is folded once, the first time the key is asked for, which is when the node is registered.
+     * </p>
+     *
+     * @return  The key.
+     * @see NodeUtil#fold(String)
+     */
+    public String getKey() {
+        String key = this.key;
+        if(key == null) {
+            String name = getName();
+            key = name == null ? "" : NodeUtil.fold(name);
+            this.key = key;
+        }
+        return key;
+    }
+
     /**
      * Adds a child node.
      *
      * @param child  The child node.
      */
     public void addChild(CommandNode child) {
-        children.put(child.getName(), child);
+        children = add(children, child);
+    }
+
+    /**
+     * Adds child nodes at once, so a wide node is made with a single container instead of growing an array child by child.
+     *
+     * @param children  The child nodes.
+     */
+    public void addChildren(Collection<? extends CommandNode> children) {
+        this.children = addAll(this.children, children);
+    }
+
+    /**
+     * Adds children to a container, replacing the children with the same keys.
+     *
+     * @param children  The container, an array is copied and a map is changed.
+     * @param added  The children.
+     * @return  The container with the children.
+     */
+    private static Object addAll(Object children, Collection<? extends CommandNode> added) {
+        if(children instanceof CommandNode[] && ((CommandNode[]) children).length + added.size() > MAX_NARROW_CHILDREN) {
+            children = new WideChildren((CommandNode[]) children);
+        }
+        for (CommandNode child : added) {
+            children = add(children, child);
+        }
+        return children;
+    }
+
+    /**
+     * Adds a child to a container, replacing the child with the same key.
+     *
+     * @param children  The container, an array is copied and a map is changed.
+     * @param child  The child.
+     * @return  The container with the child.
+     */
+    private static Object add(Object children, CommandNode child) {
+        if(children instanceof WideChildren) {
+            ((WideChildren) children).put(child.getKey(), child);
+            return children;
+        }
+
+        CommandNode[] narrow = (CommandNode[]) children;
+        for (int i = 0; i < narrow.length; i++) {
+            if(narrow[i].getKey().equals(child.getKey())) {
+                narrow = narrow.clone();
+                narrow[i] = child;
+                return narrow;
+            }
+        }
+        if(narrow.length == MAX_NARROW_CHILDREN) {
+            WideChildren wide = new WideChildren(narrow);
+            wide.put(child.getKey(), child);
+            return wide;
+        }
+        narrow = Arrays.copyOf(narrow, narrow.length + 1);
+        narrow[narrow.length - 1] = child;
+        return narrow;
+    }
+
+    /**
+     * Sets the children that aren't made until parsing or suggesting first goes below the node.
+     *
+     * @param lazyChildren  Supplies the children, it is called at most once unless it throws.
+     */
+    public void setLazyChildren(Supplier<? extends Collection<? extends CommandNode>> lazyChildren) {
+        this.lazyChildren = lazyChildren;
+    }
+
+    /**
+     * Gets what supplies the lazy children.
+     *
+     * @return  The supplier, {@code null} if the children were materialized or there are none.
+     */
+    public Supplier<? extends Collection<? extends CommandNode>> getLazyChildren() {
+        return lazyChildren;
+    }
+
+    /**
+     * Checks if the node has lazy children that weren't materialized yet.
+     *
+     * @return  If the node is lazy.
+     */
+    public boolean isLazy() {
+        return lazyChildren != null;
+    }
+
+    /**
+     * Adds the lazy children to the other children, unless they already were.
+     * <p>
+     *     Concurrent calls wait for the one that materializes the children, so the supplier runs once.
+     *     If it throws, the node stays lazy and the next call tries again.
+     * </p>
+     */
+    public void materialize() {
+        if(lazyChildren == null) {
+            return;
+        }
+        synchronized (this) {
+            Supplier<? extends Collection<? extends CommandNode>> lazyChildren = this.lazyChildren;
+            if(lazyChildren == null) {
+                return;
+            }
+
+            Object children = this.children;
+            if(children instanceof WideChildren) {
+                children = new WideChildren((WideChildren) children);
+            }
+            this.children = addAll(children, lazyChildren.get());
+            this.lazyChildren = null;
+        }
     }
 
     /**
@@ -78,22 +253,108 @@ public abstract class CommandNode {
     }
 
     /**
-     * Gets all the children.
+     * Gets the permission bits a source needs to see the node.
+     *
+     * @return  The permission bits, {@code 0} if there are none.
+     */
+    public long getRequiredPermissions() {
+        return requiredPermissions;
+    }
+
+    /**
+     * Sets the permission bits a source needs to see the node.
+     *
+     * @param requiredPermissions  The permission bits.
+     */
+    public void setRequiredPermissions(long requiredPermissions) {
+        this.requiredPermissions = requiredPermissions;
+    }
+
+    /**
+     * Gets the requirement a source has to meet to see the node.
+     *
+     * @return  The requirement, {@code null} if there is none.
+     */
+    public Predicate<CommandSource> getRequirement() {
+        return requirement;
+    }
+
+    /**
+     * Sets the requirement a source has to meet to see the node.
+     *
+     * @param requirement  The requirement, {@code null} for none.
+     */
+    public void setRequirement(Predicate<CommandSource> requirement) {
+        this.requirement = requirement;
+    }
+
+    /**
+     * Gets the node whose children this node goes on with.
+     *
+     * @return  The redirect, {@code null} if the node has its own children.
+     */
+    public CommandNode getRedirect() {
+        return redirect;
+    }
+
+    /**
+     * Makes the node go on with the children of another node, which may be one of its ancestors.
+     *
+     * @param redirect  The redirect, {@code null} for none.
+     */
+    public void setRedirect(CommandNode redirect) {
+        this.redirect = redirect;
+    }
+
+    /**
+     * Gets all the children, the lazy ones only once they are materialized.
+     * <p>
+     *     The children of the {@link #getRedirect() redirect} aren't included.
+     * </p>
      *
      * @return  The children.
      */
     public Collection<CommandNode> getChildren() {
-        return children.values();
+        Object children = this.children;
+        if(children instanceof WideChildren) {
+            return Collections.unmodifiableCollection(((WideChildren) children).values());
+        }
+        return children == NO_CHILDREN ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList((CommandNode[]) children));
     }
 
     /**
-     * Gets a child node.
+     * Gets a child node, ignoring case.
      *
      * @param child  The name of the child node.
-     * @return  The child node.
+     * @return  The child node, or {@code null} if there is none.
      */
     public CommandNode getChild(String child) {
-        return children.get(child);
+        Object children = this.children;
+        if(children instanceof WideChildren) {
+            return ((WideChildren) children).get(NodeUtil.fold(child));
+        }
+        for (CommandNode node : (CommandNode[]) children) {
+            if(NodeUtil.compare(node.getKey(), child, 0, child.length()) == 0) {
+                return node;
+            }
+        }
+        return null;
     }
 
+    /**
+     * The children of a node with more than {@link #MAX_NARROW_CHILDREN} of them, by key in the order they were added.
+     */
+    private static final class WideChildren extends LinkedHashMap<String, CommandNode> {
+
+        private WideChildren(CommandNode[] children) {
+            super(Math.max(children.length * 2, MAX_NARROW_CHILDREN * 4));
+            for (CommandNode child : children) {
+                put(child.getKey(), child);
+            }
+        }
+
+        private WideChildren(WideChildren children) {
+            super(children);
+        }
+    }
 }
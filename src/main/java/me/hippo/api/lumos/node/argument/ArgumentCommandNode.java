@@ -34,7 +34,7 @@ public final class ArgumentCommandNode extends CommandNode {
     /**
      * The {@link ArgumentType}.
      */
-    private final ArgumentType argumentType;
+    private final ArgumentType<?> argumentType;
 
     /**
      * Creates a new {@link ArgumentCommandNode} with the desired name and argument type.
@@ -42,7 +42,7 @@ public final class ArgumentCommandNode extends CommandNode {
      * @param name  The name.
      * @param argumentType  The argument type.
      */
-    public ArgumentCommandNode(String name, ArgumentType argumentType) {
+    public ArgumentCommandNode(String name, ArgumentType<?> argumentType) {
         this.name = name;
         this.argumentType = argumentType;
     }
@@ -62,7 +62,7 @@ public final class ArgumentCommandNode extends CommandNode {
      *
      * @return  The argument type.
      */
-    public ArgumentType getArgumentType() {
+    public ArgumentType<?> getArgumentType() {
         return argumentType;
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.reader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A line of ASCII text read in place out of a byte buffer, so it can be parsed without making a {@link String} of it.
+ * <p>
+ *     Every byte is a char, so no decoding is needed, lines with other bytes are decoded, see {@link #of(ByteBuffer, int, int, boolean)}.
+ *     The line is a view, it is only valid as long as the buffer holds it.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class ByteLine implements CharSequence {
+
+    /**
+     * The buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Where the line starts in the buffer.
+     */
+    private final int offset;
+
+    /**
+     * The length of the line.
+     */
+    private final int length;
+
+    private ByteLine(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Reads a line out of a buffer.
+     *
+     * @param buffer  The buffer.
+     * @param from  The start of the line.
+     * @param to  The end of the line.
+     * @param ascii  If the line is all ASCII, it is decoded as UTF-8 otherwise.
+     * @return  A view of the line if it is ASCII, a {@link String} otherwise.
+     */
+    public static CharSequence of(ByteBuffer buffer, int from, int to, boolean ascii) {
+        if(ascii) {
+            return new ByteLine(buffer, from, to - from);
+        }
+        return new String(copy(buffer, from, to), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if(index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of a line of length " + length);
+        }
+        return (char) buffer.get(offset + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if(start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Range " + start + " to " + end + " out of a line of length " + length);
+        }
+        return new ByteLine(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(copy(buffer, offset, offset + length), StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] copy(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(from + i);
+        }
+        return bytes;
+    }
+}
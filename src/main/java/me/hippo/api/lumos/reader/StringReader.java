@@ -0,0 +1,183 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.reader;
+
+/**
+ * A cursor over a command input.
+ * <p>
+ *     The reader walks the input by char offset, tokens are only turned into {@link String}s when asked for.
+ *     A reader is just an input and a cursor, so every parse makes its own rather than sharing one per thread:
+ *     it is handed to the argument types, and a parse can start another one on the same thread when a lazy node expands.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class StringReader {
+
+    /**
+     * The input.
+     */
+    private final CharSequence input;
+
+    /**
+     * The length of the {@link #input}.
+     */
+    private final int length;
+
+    /**
+     * The current offset in the {@link #input}.
+     */
+    private int cursor;
+
+    /**
+     * Creates a new {@link StringReader} for the desired input.
+     *
+     * @param input  The input.
+     */
+    public StringReader(CharSequence input) {
+        this.input = input;
+        this.length = input.length();
+    }
+
+    /**
+     * Gets the input.
+     *
+     * @return  The input.
+     */
+    public CharSequence getInput() {
+        return input;
+    }
+
+    /**
+     * Gets the length of the input.
+     *
+     * @return  The length.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Gets the cursor.
+     *
+     * @return  The cursor.
+     */
+    public int getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Sets the cursor.
+     *
+     * @param cursor  The cursor.
+     */
+    public void setCursor(int cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Checks if there is anything left to read.
+     *
+     * @return  If there is anything left to read.
+     */
+    public boolean canRead() {
+        return cursor < length;
+    }
+
+    /**
+     * Gets the char at the cursor without moving it.
+     *
+     * @return  The char.
+     */
+    public char peek() {
+        return input.charAt(cursor);
+    }
+
+    /**
+     * Moves the cursor past any whitespace.
+     */
+    public void skipWhitespace() {
+        while (cursor < length && Character.isWhitespace(input.charAt(cursor))) {
+            cursor++;
+        }
+    }
+
+    /**
+     * Moves the cursor to the end of the current token.
+     *
+     * @return  The offset the token ends at (exclusive).
+     */
+    public int skipToken() {
+        while (cursor < length && !Character.isWhitespace(input.charAt(cursor))) {
+            cursor++;
+        }
+        return cursor;
+    }
+
+    /**
+     * Reads the current token.
+     *
+     * @return  The token.
+     */
+    public String readToken() {
+        int start = cursor;
+        return substring(start, skipToken());
+    }
+
+    /**
+     * Checks if {@code offset} is on a token boundary, that being the end of the input or whitespace.
+     *
+     * @param offset  The offset.
+     * @return  If the offset is a boundary.
+     */
+    public boolean isBoundary(int offset) {
+        return offset >= length || Character.isWhitespace(input.charAt(offset));
+    }
+
+    /**
+     * Gets part of the input as a {@link String}.
+     *
+     * @param start  The start offset (inclusive).
+     * @param end  The end offset (exclusive).
+     * @return  The part of the input.
+     */
+    public String substring(int start, int end) {
+        return input.subSequence(start, end).toString();
+    }
+
+    /**
+     * Reads the remaining input, leaving the cursor at the end.
+     *
+     * @return  The remaining input.
+     */
+    public String readRemaining() {
+        String remaining = getRemaining();
+        cursor = length;
+        return remaining;
+    }
+
+    /**
+     * Gets the remaining input as a {@link String}.
+     *
+     * @return  The remaining input.
+     */
+    public String getRemaining() {
+        return substring(cursor, length);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.replay;
+
+/**
+ * Hears about the progress and the failures of a {@link ScriptReplayer}.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public interface ReplayListener {
+
+    /**
+     * Called every {@link ScriptReplayer#progressInterval(long)} lines.
+     *
+     * @param progress  The progress so far.
+     */
+    default void onProgress(ReplayReport progress) {}
+
+    /**
+     * Called when a line failed, the replay goes on with the next line.
+     *
+     * @param line  The line number, starting at {@code 1}.
+     * @param input  The line, only valid during the call, use {@link CharSequence#toString()} to keep it.
+     * @param failure  What the line failed with.
+     */
+    default void onFailure(long line, CharSequence input, Exception failure) {}
+}
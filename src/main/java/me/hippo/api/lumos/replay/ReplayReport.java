@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.replay;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How far a {@link ScriptReplayer} got, and how fast.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class ReplayReport {
+
+    /**
+     * The amount of commands executed or failed.
+     */
+    private final long commands;
+
+    /**
+     * The amount of commands that failed.
+     */
+    private final long failures;
+
+    /**
+     * The amount of bytes read.
+     */
+    private final long bytes;
+
+    /**
+     * The size of the script.
+     */
+    private final long totalBytes;
+
+    /**
+     * The time since the replay started.
+     */
+    private final long elapsedNanos;
+
+    ReplayReport(long commands, long failures, long bytes, long totalBytes, long elapsedNanos) {
+        this.commands = commands;
+        this.failures = failures;
+        this.bytes = bytes;
+        this.totalBytes = totalBytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the amount of commands executed or failed, blank and comment lines are not commands.
+     *
+     * @return  The amount of commands.
+     */
+    public long getCommands() {
+        return commands;
+    }
+
+    /**
+     * Gets the amount of commands that failed.
+     *
+     * @return  The amount of failures.
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Gets the amount of bytes read.
+     *
+     * @return  The amount of bytes.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Gets how much of the script was read.
+     *
+     * @return  The progress, from {@code 0} to {@code 1}.
+     */
+    public double getProgress() {
+        return totalBytes == 0 ? 1 : (double) bytes / totalBytes;
+    }
+
+    /**
+     * Gets the time since the replay started.
+     *
+     * @param unit  The unit.
+     * @return  The time.
+     */
+    public long getElapsed(TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the amount of commands replayed per second.
+     *
+     * @return  The throughput.
+     */
+    public double getCommandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : commands * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets the amount of megabytes read per second.
+     *
+     * @return  The throughput.
+     */
+    public double getMegabytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : bytes * 1e9 / elapsedNanos / (1 << 20);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d commands (%d failed), %.1f%% in %d ms, %.0f commands/s, %.1f MB/s",
+                commands, failures, getProgress() * 100, getElapsed(TimeUnit.MILLISECONDS), getCommandsPerSecond(), getMegabytesPerSecond());
+    }
+}
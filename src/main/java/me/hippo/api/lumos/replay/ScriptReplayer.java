@@ -0,0 +1,256 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.replay;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.reader.ByteLine;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replays a script of commands, one per line, through a {@link CommandDispatcher}.
+ * <p>
+ *     The script is memory mapped in chunks that end on a line break, and the lines are parsed straight out of
+ *     the mapped bytes, without a {@link String} per line. ASCII lines are read in place, lines with other bytes are
+ *     decoded as UTF-8. Blank lines and lines starting with {@code #} are skipped.
+ *     A failing line is handed to the {@link ReplayListener} and the replay goes on.
+ * </p>
+ * <pre>
+ *     ReplayReport report = new ScriptReplayer(commandDispatcher)
+ *             .listener(progress -&gt; System.out.println(progress))
+ *             .replay(Paths.get("restore.txt"));
+ * </pre>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class ScriptReplayer {
+
+    /**
+     * The dispatcher the commands are executed with.
+     */
+    private final CommandDispatcher commandDispatcher;
+
+    /**
+     * The listener.
+     */
+    private ReplayListener listener = new ReplayListener() {};
+
+    /**
+     * The amount of lines between progress reports.
+     */
+    private long progressInterval = 1_000_000;
+
+    /**
+     * The most bytes mapped at once.
+     */
+    private int chunkSize = Integer.MAX_VALUE;
+
+    /**
+     * Creates a new {@link ScriptReplayer} for the desired dispatcher.
+     *
+     * @param commandDispatcher  The dispatcher.
+     */
+    public ScriptReplayer(CommandDispatcher commandDispatcher) {
+        this.commandDispatcher = commandDispatcher;
+    }
+
+    /**
+     * Sets the listener that hears about the progress and the failures.
+     *
+     * @param listener  The listener.
+     * @return  {@code this}.
+     */
+    public ScriptReplayer listener(ReplayListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Sets the amount of lines between progress reports, a million by default.
+     *
+     * @param progressInterval  The amount of lines.
+     * @return  {@code this}.
+     */
+    public ScriptReplayer progressInterval(long progressInterval) {
+        if(progressInterval <= 0) {
+            throw new IllegalArgumentException("The progress interval must be positive, got " + progressInterval);
+        }
+        this.progressInterval = progressInterval;
+        return this;
+    }
+
+    /**
+     * Sets the most bytes mapped at once, as much as a buffer can hold by default.
+     * <p>
+     *     A chunk always ends on a line break, so no line can be longer than this.
+     * </p>
+     *
+     * @param chunkSize  The chunk size.
+     * @return  {@code this}.
+     */
+    public ScriptReplayer chunkSize(int chunkSize) {
+        if(chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive, got " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Replays a script.
+     *
+     * @param script  The script.
+     * @return  The final report.
+     * @throws IOException  If the script can't be read, or has a line longer than the chunk size.
+     */
+    public ReplayReport replay(Path script) throws IOException {
+        try (FileChannel channel = FileChannel.open(script, StandardOpenOption.READ)) {
+            Replay replay = new Replay(channel.size());
+            long position = 0;
+            while (position < replay.totalBytes) {
+                long length = Math.min(chunkSize, replay.totalBytes - position);
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                boolean last = position + length == replay.totalBytes;
+
+                int end = (int) length;
+                if(!last) {
+                    while (end > 0 && chunk.get(end - 1) != '\n') {
+                        end--;
+                    }
+                    if(end == 0) {
+                        throw new IOException("The line at byte " + position + " of " + script + " is longer than the chunk size of " + chunkSize);
+                    }
+                }
+
+                replay.replay(chunk, position, end);
+                position += end;
+            }
+            return replay.report();
+        }
+    }
+
+    /**
+     * The state of one replay.
+     */
+    private final class Replay {
+
+        /**
+         * The size of the script.
+         */
+        private final long totalBytes;
+
+        /**
+         * When the replay started.
+         */
+        private final long start = System.nanoTime();
+
+        /**
+         * The amount of lines read.
+         */
+        private long lines;
+
+        /**
+         * The amount of commands executed or failed.
+         */
+        private long commands;
+
+        /**
+         * The amount of commands that failed.
+         */
+        private long failures;
+
+        /**
+         * The amount of bytes read.
+         */
+        private long bytes;
+
+        private Replay(long totalBytes) {
+            this.totalBytes = totalBytes;
+        }
+
+        /**
+         * Replays the lines of a chunk.
+         *
+         * @param chunk  The chunk.
+         * @param position  Where the chunk starts in the script.
+         * @param end  The end of the last line of the chunk.
+         */
+        private void replay(MappedByteBuffer chunk, long position, int end) {
+            int lineStart = 0;
+            boolean ascii = true;
+            for (int i = 0; i < end; i++) {
+                byte b = chunk.get(i);
+                if(b == '\n') {
+                    bytes = position + i + 1;
+                    line(chunk, lineStart, i, ascii);
+                    lineStart = i + 1;
+                    ascii = true;
+                }else if(b < 0) {
+                    ascii = false;
+                }
+            }
+            if(lineStart < end) {
+                bytes = position + end;
+                line(chunk, lineStart, end, ascii);
+            }
+        }
+
+        /**
+         * Executes a line.
+         *
+         * @param chunk  The chunk.
+         * @param from  The start of the line.
+         * @param to  The end of the line, before the line break.
+         * @param ascii  If the line is all ASCII.
+         */
+        private void line(MappedByteBuffer chunk, int from, int to, boolean ascii) {
+            lines++;
+            if(to > from && chunk.get(to - 1) == '\r') {
+                to--;
+            }
+
+            int first = from;
+            while (first < to && Character.isWhitespace(chunk.get(first))) {
+                first++;
+            }
+            if(first < to && chunk.get(first) != '#') {
+                CharSequence input = ByteLine.of(chunk, from, to, ascii);
+                commands++;
+                try {
+                    commandDispatcher.execute(input);
+                }catch (Exception e) {
+                    failures++;
+                    listener.onFailure(lines, input, e);
+                }
+            }
+
+            if(lines % progressInterval == 0) {
+                listener.onProgress(report());
+            }
+        }
+
+        private ReplayReport report() {
+            return new ReplayReport(commands, failures, bytes, totalBytes, System.nanoTime() - start);
+        }
+    }
+}
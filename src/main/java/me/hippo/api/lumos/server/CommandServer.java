@@ -0,0 +1,391 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.server;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.ExecutionStatus;
+import me.hippo.api.lumos.exception.CommandException;
+import me.hippo.api.lumos.reader.ByteLine;
+import me.hippo.api.lumos.source.CommandSource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * A non-blocking command endpoint, every client sends commands one per line and gets a line back for each of them.
+ * <p>
+ *     All the clients are served by one thread around a {@link Selector}. A client can pipeline, send many commands
+ *     without waiting, the responses come back in the same order. The commands are parsed straight out of the
+ *     direct read buffer of the client and run on the server thread, so they should be quick.
+ *     The input of a command is only valid while it executes.
+ * </p>
+ * <p>
+ *     A command that executed gets {@code OK}, one that threw gets {@code ERR} followed by what it threw,
+ *     and the corrections of a {@link CommandException} if it has any.
+ *     Every client is its own {@link CommandSource}, a command over its rate limit gets {@code ERR RATE_LIMITED}.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class CommandServer implements Closeable {
+
+    /**
+     * The longest line a client can send.
+     */
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    /**
+     * The amount of pending response bytes at which a client isn't read from until they are written.
+     */
+    private static final int MAX_PENDING_OUTPUT = 1024 * 1024;
+
+    /**
+     * The response to a command that executed.
+     */
+    private static final byte[] OK = "OK\n".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The response to a command that was over its rate limit.
+     */
+    private static final byte[] RATE_LIMITED = "ERR RATE_LIMITED\n".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The dispatcher the commands are executed with.
+     */
+    private final CommandDispatcher commandDispatcher;
+
+    /**
+     * The selector.
+     */
+    private final Selector selector;
+
+    /**
+     * The channel clients connect to.
+     */
+    private final ServerSocketChannel serverChannel;
+
+    /**
+     * The server thread.
+     */
+    private final Thread thread;
+
+    /**
+     * If the server is closed.
+     */
+    private volatile boolean closed;
+
+    private CommandServer(CommandDispatcher commandDispatcher, InetSocketAddress address) throws IOException {
+        this.commandDispatcher = commandDispatcher;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        }catch (IOException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
+
+        this.thread = new Thread(this::run, "lumos-command-server");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts a server on a loopback port.
+     *
+     * @param commandDispatcher  The dispatcher the commands are executed with.
+     * @param port  The port, {@code 0} for any free one.
+     * @return  The started server.
+     * @throws IOException  If the port can't be bound.
+     */
+    public static CommandServer start(CommandDispatcher commandDispatcher, int port) throws IOException {
+        return start(commandDispatcher, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    /**
+     * Starts a server on an address.
+     *
+     * @param commandDispatcher  The dispatcher the commands are executed with.
+     * @param address  The address.
+     * @return  The started server.
+     * @throws IOException  If the address can't be bound.
+     */
+    public static CommandServer start(CommandDispatcher commandDispatcher, InetSocketAddress address) throws IOException {
+        CommandServer commandServer = new CommandServer(commandDispatcher, address);
+        commandServer.thread.start();
+        return commandServer;
+    }
+
+    /**
+     * Gets the address the server is bound to.
+     *
+     * @return  The address.
+     * @throws IOException  If the server is closed.
+     */
+    public InetSocketAddress getAddress() throws IOException {
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Stops the server and disconnects every client.
+     *
+     * @throws IOException  If a channel can't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        selector.wakeup();
+        try {
+            thread.join();
+        }catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The server loop.
+     */
+    private void run() {
+        try {
+            while (!closed) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if(key.isAcceptable()) {
+                            accept();
+                        }
+                        if(key.isValid() && key.isReadable()) {
+                            ((Connection) key.attachment()).read();
+                        }
+                        if(key.isValid() && key.isWritable()) {
+                            ((Connection) key.attachment()).write();
+                        }
+                    }catch (IOException e) {
+                        if(key.attachment() instanceof Connection) {
+                            ((Connection) key.attachment()).close();
+                        }
+                    }
+                }
+            }
+        }catch (IOException | ClosedSelectorException ignored) {
+        }finally {
+            for (SelectionKey key : selector.keys()) {
+                try {
+                    key.channel().close();
+                }catch (IOException ignored) {
+                }
+            }
+            try {
+                selector.close();
+            }catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Accepts a client.
+     *
+     * @throws IOException  If the client can't be accepted.
+     */
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if(channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key, String.valueOf(channel.getRemoteAddress())));
+    }
+
+    /**
+     * A connected client.
+     */
+    private final class Connection implements CommandSource {
+
+        /**
+         * The channel.
+         */
+        private final SocketChannel channel;
+
+        /**
+         * The selection key.
+         */
+        private final SelectionKey key;
+
+        /**
+         * The remote address.
+         */
+        private final String name;
+
+        /**
+         * The bytes read and not yet framed.
+         */
+        private final ByteBuffer input = ByteBuffer.allocateDirect(MAX_LINE_LENGTH);
+
+        /**
+         * The responses not yet written, ready to be read from.
+         */
+        private ByteBuffer output = ByteBuffer.allocate(256);
+
+        /**
+         * If the rest of the current line is skipped, because it was too long.
+         */
+        private boolean skipping;
+
+        private Connection(SocketChannel channel, SelectionKey key, String name) {
+            this.channel = channel;
+            this.key = key;
+            this.name = name;
+            output.flip();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Disconnects the client.
+         */
+        private void close() {
+            key.cancel();
+            commandDispatcher.removeSource(this);
+            try {
+                channel.close();
+            }catch (IOException ignored) {
+            }
+        }
+
+        /**
+         * Reads what the client sent, executes every complete line and writes the responses.
+         *
+         * @throws IOException  If the client can't be read from or written to.
+         */
+        private void read() throws IOException {
+            if(channel.read(input) < 0) {
+                close();
+                return;
+            }
+
+            input.flip();
+            int lineStart = 0;
+            boolean ascii = true;
+            for (int i = 0; i < input.limit(); i++) {
+                byte b = input.get(i);
+                if(b == '\n') {
+                    if(!skipping) {
+                        execute(lineStart, i > lineStart && input.get(i - 1) == '\r' ? i - 1 : i, ascii);
+                    }
+                    skipping = false;
+                    lineStart = i + 1;
+                    ascii = true;
+                }else if(b < 0) {
+                    ascii = false;
+                }
+            }
+
+            input.position(lineStart);
+            input.compact();
+            if(!input.hasRemaining()) {
+                input.clear();
+                if(!skipping) {
+                    respond("ERR line longer than " + MAX_LINE_LENGTH + " bytes\n");
+                }
+                skipping = true;
+            }
+            write();
+        }
+
+        /**
+         * Executes a line and queues the response.
+         *
+         * @param from  The start of the line.
+         * @param to  The end of the line.
+         * @param ascii  If the line is all ASCII.
+         */
+        private void execute(int from, int to, boolean ascii) {
+            if(from == to) {
+                return;
+            }
+            try {
+                ExecutionStatus status = commandDispatcher.execute(this, ByteLine.of(input, from, to, ascii));
+                respond(status == ExecutionStatus.EXECUTED ? OK : RATE_LIMITED);
+            }catch (Exception e) {
+                StringBuilder response = new StringBuilder("ERR ").append(e.getClass().getSimpleName());
+                if(e.getMessage() != null) {
+                    response.append(": ").append(e.getMessage());
+                }
+                if(e instanceof CommandException && !((CommandException) e).getCorrections().isEmpty()) {
+                    response.append(" (did you mean ").append(String.join(", ", ((CommandException) e).getCorrections())).append("?)");
+                }
+                respond(response.toString().replace('\n', ' ') + "\n");
+            }
+        }
+
+        /**
+         * Writes as much of the pending responses as the client takes, and waits for the client if there is more.
+         *
+         * @throws IOException  If the client can't be written to.
+         */
+        private void write() throws IOException {
+            channel.write(output);
+            int interest = output.hasRemaining() ? SelectionKey.OP_WRITE : 0;
+            if(output.remaining() < MAX_PENDING_OUTPUT) {
+                interest |= SelectionKey.OP_READ;
+            }
+            key.interestOps(interest);
+        }
+
+        private void respond(String response) {
+            respond(response.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Queues a response.
+         *
+         * @param response  The response.
+         */
+        private void respond(byte[] response) {
+            output.compact();
+            if(output.remaining() < response.length) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(output.capacity() << 1, output.position() + response.length));
+                output.flip();
+                grown.put(output);
+                output = grown;
+            }
+            output.put(response);
+            output.flip();
+        }
+    }
+}
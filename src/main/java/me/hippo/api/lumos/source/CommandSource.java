@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.source;
+
+/**
+ * Whoever issued a command, like the console or a connected client.
+ * <p>
+ *     Sources are told apart with {@link Object#equals(Object)} and {@link Object#hashCode()}.
+ *     They see every command unless they say otherwise through {@link #getPermissions()}.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public interface CommandSource {
+
+    /**
+     * The console.
+     */
+    CommandSource CONSOLE = () -> "console";
+
+    /**
+     * Gets the name of the source.
+     *
+     * @return  The name.
+     */
+    String getName();
+
+    /**
+     * Gets the permission bits of the source, a command node is only visible if the source has all the bits it requires.
+     *
+     * @return  The permission bits, all of them by default.
+     * @see me.hippo.api.lumos.builder.CommandBuilder#requires(long)
+     */
+    default long getPermissions() {
+        return -1L;
+    }
+
+    /**
+     * Gets the version of the source's permissions.
+     * <p>
+     *     Whatever the requirements of the command nodes look at is assumed not to change as long as this stays the same,
+     *     so sources whose requirements can start or stop holding should return a new version when they do.
+     * </p>
+     *
+     * @return  The version, {@code 0} by default.
+     */
+    default long getPermissionVersion() {
+        return 0L;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.suggestion;
+
+import me.hippo.api.lumos.context.ParseResults;
+import me.hippo.api.lumos.tree.CommandTree;
+
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Picks which suggestions to return, and in which order, out of the labels matching a prefix.
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public interface SuggestionRanking {
+
+    /**
+     * Ranks the labels alphabetically, the first {@code limit} labels of the range the filter lets through are taken as they are.
+     */
+    SuggestionRanking ALPHABETICAL = (tree, from, to, limit, filter, suggestions) -> {
+        int added = 0;
+        for (int i = from; i < to && added < limit; i++) {
+            if(filter.test(i)) {
+                suggestions.add(tree.getLabelName(i));
+                added++;
+            }
+        }
+    };
+
+    /**
+     * A filter letting every label through.
+     */
+    IntPredicate ALL = index -> true;
+
+    /**
+     * Adds the top {@code limit} labels out of a range of the tree's label index.
+     *
+     * @param tree  The tree.
+     * @param from  The start of the range (inclusive), see {@link CommandTree#getLabelName(int)}.
+     * @param to  The end of the range (exclusive).
+     * @param limit  The most labels to add.
+     * @param filter  The label indexes that can be added, the others are skipped without counting towards the limit.
+     * @param suggestions  The suggestions to add to.
+     */
+    void rank(CommandTree tree, int from, int to, int limit, IntPredicate filter, List<String> suggestions);
+
+    /**
+     * Called whenever a dispatcher publishes a new snapshot, before anything is parsed or suggested with it.
+     * <p>
+     *     Whatever a ranking keeps per snapshot is built here, once, rather than when the snapshot is first used.
+     * </p>
+     *
+     * @param tree  The new snapshot.
+     */
+    default void prepare(CommandTree tree) {}
+
+    /**
+     * Called whenever a command is executed.
+     *
+     * @param parseResults  The parsed command.
+     */
+    default void recordUsage(ParseResults parseResults) {}
+
+    /**
+     * Creates a ranking that puts the most executed labels first.
+     *
+     * @return  The ranking.
+     */
+    static SuggestionRanking usageFrequency() {
+        return new UsageFrequencyRanking();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.suggestion;
+
+import me.hippo.api.lumos.context.ParseResults;
+import me.hippo.api.lumos.tree.CommandTree;
+import me.hippo.api.lumos.util.NodeUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+
+/**
+ * Ranks the labels by how often they were part of an executed command, ties are broken alphabetically.
+ * <p>
+ *     The usages of a {@link CommandTree} snapshot are kept in a max segment tree over its label index,
+ *     so the top {@code limit} labels of a range are found best first in about {@code (limit + log n) log limit} steps.
+ *     The segment tree is built once per snapshot in {@link #prepare(CommandTree)}, snapshots it wasn't prepared for
+ *     are ranked alphabetically.
+ *     The usages are kept per folded path, so they carry over to new snapshots even where the nodes were merged again.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+final class UsageFrequencyRanking implements SuggestionRanking {
+
+    /**
+     * The usages of every label, keyed by folded path, see {@link CommandTree#getPath(int)}.
+     */
+    private final Map<String, LongAdder> usages = new ConcurrentHashMap<>();
+
+    /**
+     * The usages of the latest prepared snapshot.
+     */
+    private volatile Usages current;
+
+    @Override
+    public void prepare(CommandTree tree) {
+        current = new Usages(tree);
+    }
+
+    @Override
+    public void rank(CommandTree tree, int from, int to, int limit, IntPredicate filter, List<String> suggestions) {
+        Usages usages = current;
+        if(usages == null || usages.tree != tree) {
+            ALPHABETICAL.rank(tree, from, to, limit, filter, suggestions);
+            return;
+        }
+        int capacity = usages.capacity;
+
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> a[0] != b[0] ? Long.compare(b[0], a[0]) : Long.compare(a[1], b[1]));
+        for (int low = from + capacity, high = to + capacity; low < high; low >>= 1, high >>= 1) {
+            if((low & 1) == 1) {
+                queue.add(usages.entry(low++));
+            }
+            if((high & 1) == 1) {
+                queue.add(usages.entry(--high));
+            }
+        }
+
+        int added = 0;
+        while (added < limit && !queue.isEmpty()) {
+            int position = (int) queue.poll()[2];
+            if(position >= capacity) {
+                if(filter.test(position - capacity)) {
+                    suggestions.add(tree.getLabelName(position - capacity));
+                    added++;
+                }
+            }else {
+                queue.add(usages.entry(position << 1));
+                queue.add(usages.entry((position << 1) + 1));
+            }
+        }
+    }
+
+    @Override
+    public void recordUsage(ParseResults parseResults) {
+        CommandTree tree = parseResults.getTree();
+        Usages usages = current;
+        boolean prepared = usages != null && usages.tree == tree;
+
+        for (int node = parseResults.getNodeId(); node > CommandTree.ROOT; node = tree.getParent(node)) {
+            int index = tree.getLabelIndex(node);
+            if(index < 0) {
+                continue;
+            }
+            if(prepared) {
+                LongAdder usage = usages.counters[index];
+                usage.increment();
+                usages.set(index, usage.sum());
+            }else {
+                getUsage(tree, node).increment();
+            }
+        }
+    }
+
+    /**
+     * Gets the usage counter of a label node.
+     *
+     * @param tree  The snapshot.
+     * @param node  The id of the label node.
+     * @return  The counter.
+     */
+    private LongAdder getUsage(CommandTree tree, int node) {
+        return usages.computeIfAbsent(NodeUtil.fold(tree.getPath(node)), path -> new LongAdder());
+    }
+
+    /**
+     * The usages of one {@link CommandTree} snapshot.
+     */
+    private final class Usages {
+
+        /**
+         * The snapshot.
+         */
+        private final CommandTree tree;
+
+        /**
+         * The counters, indexed by label index.
+         */
+        private final LongAdder[] counters;
+
+        /**
+         * The amount of leaves of the segment tree, a power of two.
+         */
+        private final int capacity;
+
+        /**
+         * The segment tree, node {@code p} has the children {@code 2p} and {@code 2p + 1}, the leaves start at {@link #capacity}.
+         */
+        private final AtomicLongArray segments;
+
+        private Usages(CommandTree tree) {
+            this.tree = tree;
+            this.counters = new LongAdder[tree.getLabelCount()];
+            this.capacity = Integer.highestOneBit(Math.max(1, counters.length - 1)) << 1;
+            this.segments = new AtomicLongArray(capacity << 1);
+
+            for (int index = 0; index < counters.length; index++) {
+                counters[index] = getUsage(tree, tree.getLabelTarget(index));
+                segments.set(capacity + index, counters[index].sum());
+            }
+            for (int position = capacity - 1; position > 0; position--) {
+                segments.set(position, Math.max(segments.get(position << 1), segments.get((position << 1) + 1)));
+            }
+        }
+
+        /**
+         * Sets the usage of a label and updates the maxima above it.
+         * <p>
+         *     Concurrent updates can leave a maximum briefly behind, which only affects the order of the suggestions.
+         * </p>
+         *
+         * @param index  The label index.
+         * @param usage  The usage.
+         */
+        private void set(int index, long usage) {
+            int position = capacity + index;
+            segments.set(position, usage);
+            for (position >>= 1; position > 0; position >>= 1) {
+                segments.set(position, Math.max(segments.get(position << 1), segments.get((position << 1) + 1)));
+            }
+        }
+
+        /**
+         * Creates a queue entry for a segment, its maximum, its leftmost label and its position.
+         *
+         * @param position  The position.
+         * @return  The entry.
+         */
+        private long[] entry(int position) {
+            int leftmost = position << (Integer.numberOfLeadingZeros(position) - Integer.numberOfLeadingZeros(capacity));
+            return new long[] {segments.get(position), leftmost, position};
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.tree;
+
+import java.util.Arrays;
+
+/**
+ * A BK-tree over a set of keys, to find the keys within a Levenshtein distance of a query.
+ * <p>
+ *     Every child hangs off its parent by its distance to the parent, so by the triangle inequality a search within
+ *     {@code k} of a query at distance {@code d} from a node only has to go into the children at {@code d - k} to {@code d + k}.
+ *     The nodes are kept in flat arrays, the children of a node as a linked list.
+ *     A search only allocates a stack sized to the depth of the tree and two distance rows as long as the query.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+final class BKTree {
+
+    /**
+     * The keys, indexed by node, node {@code 0} is the root.
+     */
+    private final String[] keys;
+
+    /**
+     * The values of the keys, indexed by node.
+     */
+    private final int[] values;
+
+    /**
+     * The first child of every node, {@code -1} if it has none.
+     */
+    private final int[] firstChildren;
+
+    /**
+     * The next sibling of every node, {@code -1} if it is the last one.
+     */
+    private final int[] nextSiblings;
+
+    /**
+     * The distance of every node to its parent.
+     */
+    private final int[] distances;
+
+    /**
+     * The most edges between the root and a node.
+     */
+    private int depth;
+
+    /**
+     * Builds a new {@link BKTree} out of the desired keys.
+     *
+     * @param keys  The keys, without duplicates.
+     * @param values  The value of every key.
+     */
+    BKTree(String[] keys, int[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.firstChildren = new int[keys.length];
+        this.nextSiblings = new int[keys.length];
+        this.distances = new int[keys.length];
+        Arrays.fill(firstChildren, -1);
+        Arrays.fill(nextSiblings, -1);
+
+        int longest = 0;
+        for (String key : keys) {
+            longest = Math.max(longest, key.length());
+        }
+        int[] previous = new int[longest + 1];
+        int[] current = new int[longest + 1];
+        for (int node = 1; node < keys.length; node++) {
+            insert(node, previous, current);
+        }
+    }
+
+    /**
+     * Finds the keys within {@code maxDistance} of the query.
+     *
+     * @param query  The query.
+     * @param maxDistance  The most edits a key can be away.
+     * @param matches  The matches to add to, every match is its distance in the high int and its value in the low int.
+     * @return  The amount of matches added.
+     */
+    int search(String query, int maxDistance, LongList matches) {
+        if(keys.length == 0) {
+            return 0;
+        }
+
+        int added = 0;
+        int[] previous = new int[query.length() + 1];
+        int[] current = new int[query.length() + 1];
+        int[] stack = new int[depth + 1];
+        int size = 0;
+        stack[size++] = 0;
+        while (size > 0) {
+            int node = stack[--size];
+            int distance = distance(keys[node], query, previous, current);
+            if(distance <= maxDistance) {
+                matches.add((long) distance << 32 | values[node]);
+                added++;
+            }
+            for (int child = firstChildren[node]; child >= 0; child = nextSiblings[child]) {
+                if(Math.abs(distances[child] - distance) <= maxDistance) {
+                    if(size == stack.length) {
+                        stack = Arrays.copyOf(stack, size << 1);
+                    }
+                    stack[size++] = child;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Hangs a node into the tree.
+     *
+     * @param node  The node.
+     * @param previous  A distance row at least as long as the longest key plus one.
+     * @param current  Another such row.
+     */
+    private void insert(int node, int[] previous, int[] current) {
+        int parent = 0;
+        for (int level = 1; ; level++) {
+            int distance = distance(keys[parent], keys[node], previous, current);
+            int child = firstChildren[parent];
+            while (child >= 0 && distances[child] != distance) {
+                child = nextSiblings[child];
+            }
+            if(child < 0) {
+                distances[node] = distance;
+                nextSiblings[node] = firstChildren[parent];
+                firstChildren[parent] = node;
+                depth = Math.max(depth, level);
+                return;
+            }
+            parent = child;
+        }
+    }
+
+    /**
+     * Computes the Levenshtein distance of two strings, in rows the caller reuses across calls.
+     *
+     * @param a  The first string.
+     * @param b  The second string, the rows only have to be as long as it plus one.
+     * @param previous  A row of at least {@code b.length() + 1} ints, overwritten.
+     * @param current  Another such row.
+     * @return  The amount of inserts, deletes and substitutions to turn one into the other.
+     */
+    private static int distance(String a, String b, int[] previous, int[] current) {
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char c = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (c == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * A growable list of longs.
+     */
+    static final class LongList {
+
+        /**
+         * The elements.
+         */
+        private long[] elements = new long[8];
+
+        /**
+         * The amount of elements.
+         */
+        private int size;
+
+        void add(long element) {
+            if(size == elements.length) {
+                elements = Arrays.copyOf(elements, size << 1);
+            }
+            elements[size++] = element;
+        }
+
+        long[] toSortedArray() {
+            long[] array = Arrays.copyOf(elements, size);
+            Arrays.sort(array);
+            return array;
+        }
+    }
+}
@@ -0,0 +1,1251 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.tree;
+
+import me.hippo.api.lumos.Command;
+import me.hippo.api.lumos.argument.ArgumentType;
+import me.hippo.api.lumos.argument.impl.GreedyStringArgumentType;
+import me.hippo.api.lumos.argument.impl.StringArgumentType;
+import me.hippo.api.lumos.context.ArgumentValueWrapper;
+import me.hippo.api.lumos.context.CommandContext;
+import me.hippo.api.lumos.context.ParseResults;
+import me.hippo.api.lumos.exception.CommandException;
+import me.hippo.api.lumos.exception.CommandNotFoundException;
+import me.hippo.api.lumos.exception.CommandSyntaxException;
+import me.hippo.api.lumos.node.CommandNode;
+import me.hippo.api.lumos.node.argument.ArgumentCommandNode;
+import me.hippo.api.lumos.reader.StringReader;
+import me.hippo.api.lumos.source.CommandSource;
+import me.hippo.api.lumos.suggestion.SuggestionRanking;
+import me.hippo.api.lumos.util.NodeUtil;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * An immutable, array backed form of the registered {@link CommandNode} trees.
+ * <p>
+ *     Every node gets an int id, {@link #ROOT} being a virtual node whose labels are the registered commands.
+ *     The label children of a node are a sorted slice of {@link #labelKeys} and are matched through a {@link LabelTrie},
+ *     and the argument children are a slice of {@link #argumentTargets} with their {@link ArgumentType}s next to them,
+ *     so parsing is just array indexing.
+ * </p>
+ * <p>
+ *     Parsing and suggesting can be done for what a {@link Visibility} sees, nodes a source can't see are skipped
+ *     as if they weren't there, together with everything below them.
+ * </p>
+ * <p>
+ *     Nodes with lazy children are compiled as they are, without the lazy children. The first time parsing or suggesting
+ *     has to go below such a node its children are materialized, the tree is handed to its expander for a tree that has them,
+ *     and the work goes on against that tree.
+ * </p>
+ * <p>
+ *     Every node is compiled once, however many places it sits in or redirects lead to it, so shared subtrees are stored once
+ *     and redirects to an ancestor make loops. Parsing reads at least one token per step, so it always ends.
+ *     Arguments read past a place where the path left the one the compiler first took are named as they are read.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class CommandTree {
+
+    /**
+     * The id of the virtual root node.
+     */
+    public static final int ROOT = 0;
+
+    /**
+     * The most corrections an unmatched input gets.
+     */
+    public static final int MAX_CORRECTIONS = 5;
+
+    /**
+     * The expander of trees compiled on their own, it compiles the same roots again.
+     */
+    private static final UnaryOperator<CommandTree> RECOMPILE = tree -> compile(tree.getRoots());
+
+    /**
+     * The order arguments are tried in, plain strings accept any token so they come late, and greedy strings,
+     * which accept the rest of the input, come last.
+     */
+    private static final Comparator<CommandNode> ARGUMENT_ORDER = Comparator.comparingInt(argument -> {
+        ArgumentType<?> argumentType = ((ArgumentCommandNode) argument).getArgumentType();
+        return argumentType instanceof GreedyStringArgumentType ? 2 : argumentType instanceof StringArgumentType ? 1 : 0;
+    });
+
+    /**
+     * The source nodes, indexed by id.
+     */
+    private final CommandNode[] nodes;
+
+    /**
+     * The node names, indexed by id.
+     */
+    private final String[] names;
+
+    /**
+     * The node commands, indexed by id.
+     */
+    private final Command[] commands;
+
+    /**
+     * The parent of each node, {@code -1} for {@link #ROOT}, indexed by id.
+     */
+    private final int[] parents;
+
+    /**
+     * Where each label node sits in {@link #labelKeys}, {@code -1} for other nodes, indexed by id.
+     */
+    private final int[] labelIndexes;
+
+    /**
+     * Where the label slice of each node starts, the slice of node {@code n} ends where the one of {@code n + 1} starts.
+     */
+    private final int[] labelOffsets;
+
+    /**
+     * The folded labels, sorted within every slice.
+     */
+    private final String[] labelKeys;
+
+    /**
+     * The ids the {@link #labelKeys} lead to.
+     */
+    private final int[] labelTargets;
+
+    /**
+     * The trie the labels are matched with.
+     */
+    private final LabelTrie labelTrie;
+
+    /**
+     * The root trie node of each node's labels, {@code -1} if the node has no labels, indexed by id.
+     */
+    private final int[] labelRoots;
+
+    /**
+     * Where the argument slice of each node starts, the slice of node {@code n} ends where the one of {@code n + 1} starts.
+     */
+    private final int[] argumentOffsets;
+
+    /**
+     * The argument ids, in the order they are tried within every slice.
+     */
+    private final int[] argumentTargets;
+
+    /**
+     * The types of the {@link #argumentTargets}.
+     */
+    private final ArgumentType<?>[] argumentTypes;
+
+    /**
+     * The slot each argument node stores its value in, {@code -1} for other nodes, indexed by id.
+     */
+    private final int[] slots;
+
+    /**
+     * The names of the arguments on the path to each node, indexed by id and then by slot.
+     * <p>
+     *     Nodes share the array of their parent unless they are an argument themselves.
+     * </p>
+     */
+    private final String[][] slotNames;
+
+    /**
+     * The most arguments on any path.
+     */
+    private final int slotCount;
+
+    /**
+     * The {@link BKTree}s of every node's labels, see {@link #getCorrectionTrees(int)}.
+     */
+    private final AtomicReferenceArray<BKTree[]> correctionTrees;
+
+    /**
+     * The permission bits a source needs to see each node, indexed by id.
+     */
+    private final long[] requiredPermissions;
+
+    /**
+     * All the {@link #requiredPermissions} together.
+     */
+    private final long permissionUnion;
+
+    /**
+     * Where each node's requirement sits in {@link #requirements}, {@code -1} if it has none, indexed by id.
+     */
+    private final int[] requirementIndexes;
+
+    /**
+     * The requirement predicates of the nodes that have one.
+     */
+    private final List<Predicate<CommandSource>> requirements;
+
+    /**
+     * The nodes whose lazy children weren't materialized when the tree was compiled, by id.
+     */
+    private final BitSet lazyNodes;
+
+    /**
+     * If a node is the child of more than one node, through a redirect or by sitting in several places.
+     */
+    private final boolean shared;
+
+    /**
+     * Makes the tree that goes on from this one once a lazy node was materialized.
+     */
+    private final UnaryOperator<CommandTree> expander;
+
+    /**
+     * The tree the {@link #expander} made, {@code null} until a lazy node of this tree is materialized.
+     */
+    private volatile CommandTree expanded;
+
+    private CommandTree(CommandNode[] nodes, String[] names, Command[] commands, int[] parents, int[] labelIndexes,
+                        int[] labelOffsets, String[] labelKeys, int[] labelTargets, LabelTrie labelTrie, int[] labelRoots,
+                        int[] argumentOffsets, int[] argumentTargets, ArgumentType<?>[] argumentTypes,
+                        int[] slots, String[][] slotNames, BitSet lazyNodes, boolean shared, UnaryOperator<CommandTree> expander) {
+        this.nodes = nodes;
+        this.names = names;
+        this.commands = commands;
+        this.parents = parents;
+        this.labelIndexes = labelIndexes;
+        this.labelOffsets = labelOffsets;
+        this.labelKeys = labelKeys;
+        this.labelTargets = labelTargets;
+        this.labelTrie = labelTrie;
+        this.labelRoots = labelRoots;
+        this.argumentOffsets = argumentOffsets;
+        this.argumentTargets = argumentTargets;
+        this.argumentTypes = argumentTypes;
+        this.slots = slots;
+        this.slotNames = slotNames;
+        this.lazyNodes = lazyNodes;
+        this.shared = shared;
+        this.expander = expander;
+
+        int slotCount = 0;
+        for (String[] path : slotNames) {
+            slotCount = Math.max(slotCount, path.length);
+        }
+        this.slotCount = slotCount;
+        this.correctionTrees = new AtomicReferenceArray<>(nodes.length);
+
+        this.requiredPermissions = new long[nodes.length];
+        this.requirementIndexes = new int[nodes.length];
+        this.requirements = new ArrayList<>();
+        long permissionUnion = 0L;
+        requirementIndexes[ROOT] = -1;
+        for (int id = 1; id < nodes.length; id++) {
+            requiredPermissions[id] = nodes[id].getRequiredPermissions();
+            permissionUnion |= requiredPermissions[id];
+
+            Predicate<CommandSource> requirement = nodes[id].getRequirement();
+            requirementIndexes[id] = requirement == null ? -1 : requirements.size();
+            if(requirement != null) {
+                requirements.add(requirement);
+            }
+        }
+        this.permissionUnion = permissionUnion;
+    }
+
+    /**
+     * Compiles the desired root nodes.
+     * <p>
+     *     The tree is a snapshot, changes made to the nodes afterwards are not seen by it.
+     *     Once a lazy node is materialized the roots are compiled again.
+     * </p>
+     *
+     * @param roots  The root nodes.
+     * @return  The compiled tree.
+     */
+    public static CommandTree compile(Collection<CommandNode> roots) {
+        return compile(roots, RECOMPILE);
+    }
+
+    /**
+     * Compiles the desired root nodes.
+     *
+     * @param roots  The root nodes.
+     * @param expander  Called with the tree once one of its lazy nodes was materialized, returns the tree that goes on from it,
+     *                  which should have the materialized children. It is called at most once per tree.
+     * @return  The compiled tree.
+     * @see #compile(Collection)
+     */
+    public static CommandTree compile(Collection<CommandNode> roots, UnaryOperator<CommandTree> expander) {
+        List<CommandNode> nodes = new ArrayList<>();
+        List<Integer> parents = new ArrayList<>();
+        nodes.add(null);
+        parents.add(-1);
+
+        List<String> labelKeys = new ArrayList<>();
+        List<Integer> labelTargets = new ArrayList<>();
+        List<Integer> argumentTargets = new ArrayList<>();
+        List<ArgumentType<?>> argumentTypes = new ArrayList<>();
+        List<Integer> labelOffsets = new ArrayList<>();
+        List<Integer> argumentOffsets = new ArrayList<>();
+        List<Integer> labelRoots = new ArrayList<>();
+        LabelTrie.Builder labelTrie = new LabelTrie.Builder();
+        BitSet lazyNodes = new BitSet();
+        Map<CommandNode, Integer> ids = new IdentityHashMap<>();
+        boolean redirects = false;
+
+        for (int id = 0; id < nodes.size(); id++) {
+            CommandNode owner = id == ROOT ? null : owner(nodes.get(id));
+            if(id != ROOT) {
+                redirects |= owner != nodes.get(id);
+                if(owner.isLazy()) {
+                    lazyNodes.set(id);
+                }
+            }
+            Collection<CommandNode> children = id == ROOT ? roots : owner.getChildren();
+            labelOffsets.add(labelKeys.size());
+            argumentOffsets.add(argumentTargets.size());
+
+            SortedMap<String, Integer> labels = null;
+            List<CommandNode> arguments = null;
+            for (CommandNode child : children) {
+                if(child instanceof ArgumentCommandNode) {
+                    if(arguments == null) {
+                        arguments = new ArrayList<>();
+                    }
+                    arguments.add(child);
+                    continue;
+                }
+
+                String key = child.getKey();
+                if(labels == null) {
+                    labels = new TreeMap<>();
+                }
+                if(!key.isEmpty() && !labels.containsKey(key)) {
+                    labels.put(key, idOf(child, id, nodes, parents, ids));
+                }
+            }
+
+            int labelRoot = labels == null || labels.isEmpty() ? -1 : labelTrie.newRoot();
+            labelRoots.add(labelRoot);
+            if(labelRoot >= 0) {
+                for (Map.Entry<String, Integer> label : labels.entrySet()) {
+                    labelKeys.add(label.getKey());
+                    labelTargets.add(label.getValue());
+                    labelTrie.insert(labelRoot, label.getKey(), label.getValue());
+                }
+            }
+
+            if(arguments == null) {
+                continue;
+            }
+            if(arguments.size() > 1) {
+                arguments.sort(ARGUMENT_ORDER);
+            }
+            for (CommandNode argument : arguments) {
+                argumentTargets.add(idOf(argument, id, nodes, parents, ids));
+                argumentTypes.add(((ArgumentCommandNode) argument).getArgumentType());
+            }
+        }
+        labelOffsets.add(labelKeys.size());
+        argumentOffsets.add(argumentTargets.size());
+
+        CommandNode[] nodeArray = nodes.toArray(new CommandNode[0]);
+        String[] names = new String[nodeArray.length];
+        Command[] commands = new Command[nodeArray.length];
+        for (int id = 1; id < nodeArray.length; id++) {
+            names[id] = nodeArray[id].getName();
+            commands[id] = nodeArray[id].getCommand();
+            if(commands[id] == null && nodeArray[id].getRedirect() != null) {
+                commands[id] = owner(nodeArray[id]).getCommand();
+            }
+        }
+
+        int[] labelIndexes = new int[nodeArray.length];
+        Arrays.fill(labelIndexes, -1);
+        for (int i = 0; i < labelTargets.size(); i++) {
+            labelIndexes[labelTargets.get(i)] = i;
+        }
+
+        int[] parentArray = toArray(parents);
+        int[] slots = new int[nodeArray.length];
+        String[][] slotNames = new String[nodeArray.length][];
+        assignSlots(nodeArray, names, parentArray, slots, slotNames);
+
+        return new CommandTree(nodeArray, names, commands, parentArray, labelIndexes,
+                toArray(labelOffsets), labelKeys.toArray(new String[0]), toArray(labelTargets), labelTrie.build(), toArray(labelRoots),
+                toArray(argumentOffsets), toArray(argumentTargets), argumentTypes.toArray(new ArgumentType<?>[0]),
+                slots, slotNames, lazyNodes, redirects || labelTargets.size() + argumentTargets.size() >= nodeArray.length, expander);
+    }
+
+    /**
+     * Gets the id of a node, giving it the next one if it has none yet.
+     * <p>
+     *     Ids are given per node rather than per place, so a subtree that sits in several places, or is reached
+     *     through redirects, is compiled once and the tree becomes a graph.
+     * </p>
+     *
+     * @param node  The node.
+     * @param parent  The id of the node it was reached from, its parent if it is new.
+     * @param nodes  The nodes, indexed by id.
+     * @param parents  The parents, indexed by id.
+     * @param ids  The ids, by node.
+     * @return  The id.
+     */
+    private static int idOf(CommandNode node, int parent, List<CommandNode> nodes, List<Integer> parents, Map<CommandNode, Integer> ids) {
+        Integer id = ids.get(node);
+        if(id == null) {
+            id = nodes.size();
+            ids.put(node, id);
+            nodes.add(node);
+            parents.add(parent);
+        }
+        return id;
+    }
+
+    /**
+     * Follows the redirects of a node to the node whose children it goes on with.
+     *
+     * @param node  The node.
+     * @return  The node itself if it doesn't redirect.
+     * @throws IllegalArgumentException  If the redirects go round in a circle.
+     */
+    private static CommandNode owner(CommandNode node) {
+        CommandNode owner = node;
+        Set<CommandNode> visited = null;
+        while (owner.getRedirect() != null) {
+            if(visited == null) {
+                visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            if(!visited.add(owner)) {
+                throw new IllegalArgumentException("The redirects of " + node.getName() + " go round in a circle");
+            }
+            owner = owner.getRedirect();
+        }
+        return owner;
+    }
+
+    /**
+     * Puts a tree back together out of its compiled parts, without compiling it again.
+     * <p>
+     *     The nodes have to be linked to their children already, the parts are trusted to be consistent.
+     * </p>
+     *
+     * @param nodes  The source nodes, indexed by id.
+     * @param parents  The parent of each node.
+     * @param labelOffsets  Where the label slice of each node starts.
+     * @param labelKeys  The folded labels.
+     * @param labelTargets  The ids the labels lead to.
+     * @param labelTrie  The label trie.
+     * @param labelRoots  The root trie node of each node's labels.
+     * @param argumentOffsets  Where the argument slice of each node starts.
+     * @param argumentTargets  The argument ids.
+     * @return  The tree.
+     * @see TreeSnapshot
+     */
+    static CommandTree restore(CommandNode[] nodes, int[] parents, int[] labelOffsets, String[] labelKeys, int[] labelTargets,
+                               LabelTrie labelTrie, int[] labelRoots, int[] argumentOffsets, int[] argumentTargets) {
+        String[] names = new String[nodes.length];
+        Command[] commands = new Command[nodes.length];
+        for (int id = 1; id < nodes.length; id++) {
+            names[id] = nodes[id].getName();
+            commands[id] = nodes[id].getCommand();
+        }
+
+        int[] labelIndexes = new int[nodes.length];
+        Arrays.fill(labelIndexes, -1);
+        for (int i = 0; i < labelTargets.length; i++) {
+            labelIndexes[labelTargets[i]] = i;
+        }
+
+        ArgumentType<?>[] argumentTypes = new ArgumentType<?>[argumentTargets.length];
+        for (int i = 0; i < argumentTypes.length; i++) {
+            argumentTypes[i] = ((ArgumentCommandNode) nodes[argumentTargets[i]]).getArgumentType();
+        }
+
+        int[] slots = new int[nodes.length];
+        String[][] slotNames = new String[nodes.length][];
+        assignSlots(nodes, names, parents, slots, slotNames);
+
+        return new CommandTree(nodes, names, commands, parents, labelIndexes,
+                labelOffsets, labelKeys, labelTargets, labelTrie, labelRoots,
+                argumentOffsets, argumentTargets, argumentTypes,
+                slots, slotNames, new BitSet(), false, RECOMPILE);
+    }
+
+    /**
+     * Gives every argument node a slot, and every node the names of the arguments on its path.
+     * <p>
+     *     Paths with the same argument names share one array, so an {@link me.hippo.api.lumos.context.ArgumentHandle}
+     *     used by all their commands only resolves its slot once.
+     * </p>
+     *
+     * @param nodes  The source nodes, indexed by id, parents before their children.
+     * @param names  The node names.
+     * @param parents  The parent of each node.
+     * @param slots  The slots to fill.
+     * @param slotNames  The slot names to fill.
+     */
+    private static void assignSlots(CommandNode[] nodes, String[] names, int[] parents, int[] slots, String[][] slotNames) {
+        Map<List<String>, String[]> layouts = new HashMap<>();
+        slots[ROOT] = -1;
+        slotNames[ROOT] = new String[0];
+        for (int id = 1; id < nodes.length; id++) {
+            String[] path = slotNames[parents[id]];
+            if(nodes[id] instanceof ArgumentCommandNode) {
+                slots[id] = path.length;
+                path = Arrays.copyOf(path, path.length + 1);
+                path[slots[id]] = names[id];
+                String[] layout = layouts.putIfAbsent(Arrays.asList(path), path);
+                if(layout != null) {
+                    path = layout;
+                }
+            }else {
+                slots[id] = -1;
+            }
+            slotNames[id] = path;
+        }
+    }
+
+    /**
+     * Parses a command in a single pass over the input.
+     * <p>
+     *     The input is read in place, so it can be a view over a buffer rather than a {@link String}.
+     *     The parsed arguments keep referring to it, so it mustn't change while they are used.
+     * </p>
+     *
+     * @param input  The command input.
+     * @return  The node the input resolved to, and the context holding the parsed arguments.
+     * @throws CommandNotFoundException  If the command doesn't exist.
+     * @throws CommandSyntaxException  If the input doesn't fit the command.
+     */
+    public ParseResults parse(CharSequence input) throws CommandException {
+        return parse(input, null);
+    }
+
+    /**
+     * Parses a command in a single pass over the input, only matching the nodes a source can see.
+     *
+     * @param input  The command input.
+     * @param visibility  What the source can see, {@code null} for everything.
+     * @return  The node the input resolved to, and the context holding the parsed arguments.
+     * @throws CommandNotFoundException  If the command doesn't exist, or is hidden from the source.
+     * @throws CommandSyntaxException  If the input doesn't fit the command.
+     * @see #parse(CharSequence)
+     */
+    public ParseResults parse(CharSequence input, Visibility visibility) throws CommandException {
+        StringReader reader = new StringReader(input);
+        reader.skipWhitespace();
+
+        int node = readLabel(ROOT, reader, visibility);
+        if(node < 0) {
+            throw new CommandNotFoundException("Command for input " + input + " not found.", getCorrections(ROOT, input, reader.getCursor(), visibility));
+        }
+
+        ArgumentValueWrapper[] arguments = new ArgumentValueWrapper[slotCount];
+        int argumentCount = 0;
+        String[] pathNames = null;
+        reader.skipWhitespace();
+        while (reader.canRead()) {
+            if(lazyNodes.get(node)) {
+                CommandTree expanded = expand(node);
+                return expanded.parse(input, visibility == null ? null : expanded.getVisibility(visibility.getSource()));
+            }
+            int child = readLabel(node, reader, visibility);
+            if(child < 0 && argumentOffsets[node] < argumentOffsets[node + 1]) {
+                if(argumentCount == arguments.length) {
+                    arguments = Arrays.copyOf(arguments, argumentCount * 2 + 1);
+                }
+                child = readArgument(node, reader, arguments, argumentCount, visibility);
+            }
+            if(child < 0) {
+                throw new CommandSyntaxException("Invalid command usage of " + input, getCorrections(node, input, reader.getCursor(), visibility));
+            }
+
+            if(pathNames == null && shared && parents[child] != node) {
+                pathNames = slotNames[node];
+            }
+            if(slots[child] >= 0) {
+                if(pathNames != null) {
+                    pathNames = Arrays.copyOf(pathNames, argumentCount + 1);
+                    pathNames[argumentCount] = names[child];
+                }
+                argumentCount++;
+            }
+            node = child;
+            reader.skipWhitespace();
+        }
+
+        return new ParseResults(this, node, new CommandContext(input, pathNames == null ? slotNames[node] : pathNames, arguments));
+    }
+
+    /**
+     * Gets the labels of a node that are a few typos away from the input at {@code start}.
+     * <p>
+     *     The labels of every node are put in {@link BKTree}s, one per word count, the first time a correction is asked for.
+     *     A label is compared to as many tokens of the input as it has words, short labels allow fewer typos.
+     * </p>
+     *
+     * @param node  The node the input didn't match a label of.
+     * @param input  The command input.
+     * @param start  Where the unmatched input starts.
+     * @return  At most {@link #MAX_CORRECTIONS} labels, closest first.
+     */
+    public List<String> getCorrections(int node, CharSequence input, int start) {
+        return getCorrections(node, input, start, null);
+    }
+
+    /**
+     * Gets the labels of a node a source can see that are a few typos away from the input at {@code start}.
+     *
+     * @param node  The node the input didn't match a label of.
+     * @param input  The command input.
+     * @param start  Where the unmatched input starts.
+     * @param visibility  What the source can see, {@code null} for everything.
+     * @return  At most {@link #MAX_CORRECTIONS} labels, closest first.
+     * @see #getCorrections(int, CharSequence, int)
+     */
+    public List<String> getCorrections(int node, CharSequence input, int start, Visibility visibility) {
+        String[] tokens = foldPrefix(input, start).trim().split(" ");
+        BKTree[] trees = getCorrectionTrees(node);
+        if(tokens[0].isEmpty() || trees.length == 0) {
+            return Collections.emptyList();
+        }
+
+        BKTree.LongList matches = new BKTree.LongList();
+        StringBuilder query = new StringBuilder();
+        for (int words = 1; words <= Math.min(trees.length, tokens.length); words++) {
+            query.append(words == 1 ? "" : " ").append(tokens[words - 1]);
+            if(trees[words - 1] != null) {
+                trees[words - 1].search(query.toString(), query.length() <= 3 ? 1 : query.length() <= 7 ? 2 : 3, matches);
+            }
+        }
+
+        long[] sorted = matches.toSortedArray();
+        List<String> corrections = new ArrayList<>(Math.min(sorted.length, MAX_CORRECTIONS));
+        for (int i = 0; i < sorted.length && corrections.size() < MAX_CORRECTIONS; i++) {
+            int index = (int) sorted[i];
+            if(visibility == null || visibility.canSee(labelTargets[index])) {
+                corrections.add(getLabelName(index));
+            }
+        }
+        return corrections;
+    }
+
+    /**
+     * Gets the {@link BKTree}s of a node's labels, building them if they weren't yet.
+     *
+     * @param node  The id.
+     * @return  The trees, indexed by word count minus one, {@code null} for the word counts no label has.
+     */
+    private BKTree[] getCorrectionTrees(int node) {
+        BKTree[] trees = correctionTrees.get(node);
+        if(trees != null) {
+            return trees;
+        }
+
+        Map<Integer, List<Integer>> byWords = new TreeMap<>();
+        int maxWords = 0;
+        for (int i = labelOffsets[node]; i < labelOffsets[node + 1]; i++) {
+            int words = 1;
+            for (int c = 0; c < labelKeys[i].length(); c++) {
+                if(labelKeys[i].charAt(c) == ' ') {
+                    words++;
+                }
+            }
+            byWords.computeIfAbsent(words, key -> new ArrayList<>()).add(i);
+            maxWords = Math.max(maxWords, words);
+        }
+
+        trees = new BKTree[maxWords];
+        for (Map.Entry<Integer, List<Integer>> entry : byWords.entrySet()) {
+            int[] indexes = toArray(entry.getValue());
+            String[] keys = new String[indexes.length];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = labelKeys[indexes[i]];
+            }
+            trees[entry.getKey() - 1] = new BKTree(keys, indexes);
+        }
+        correctionTrees.set(node, trees);
+        return trees;
+    }
+
+    /**
+     * Gets all the labels that could follow the input, in alphabetical order.
+     *
+     * @param input  The command input.
+     * @return  The suggestions.
+     */
+    public List<String> getSuggestions(String input) {
+        return getSuggestions(input, Integer.MAX_VALUE, SuggestionRanking.ALPHABETICAL);
+    }
+
+    /**
+     * Gets the top {@code limit} labels that could follow the input.
+     * <p>
+     *     The labels starting with the last, partial, token are found with two binary searches over the node's
+     *     sorted label slice, so the cost depends on the length of the input and {@code limit}, not on how many
+     *     labels there are.
+     *     The argument types of the node add their own suggestions after the labels.
+     *     A partial token can also be continuing a multi-word label of the node before, those labels come last.
+     * </p>
+     *
+     * @param input  The command input.
+     * @param limit  The most suggestions to return.
+     * @param ranking  The ranking to pick the suggestions with.
+     * @return  The suggestions.
+     */
+    public List<String> getSuggestions(String input, int limit, SuggestionRanking ranking) {
+        return getSuggestions(input, limit, ranking, null);
+    }
+
+    /**
+     * Gets the top {@code limit} labels a source can see that could follow the input.
+     * <p>
+     *     Hidden labels aren't suggested, and the input is never walked into a hidden node.
+     * </p>
+     *
+     * @param input  The command input.
+     * @param limit  The most suggestions to return.
+     * @param ranking  The ranking to pick the suggestions with.
+     * @param visibility  What the source can see, {@code null} for everything.
+     * @return  The suggestions.
+     * @see #getSuggestions(String, int, SuggestionRanking)
+     */
+    public List<String> getSuggestions(String input, int limit, SuggestionRanking ranking, Visibility visibility) {
+        StringReader reader = new StringReader(input);
+        reader.skipWhitespace();
+        int start = reader.getCursor();
+
+        int node = ROOT;
+        int previousNode = -1;
+        int previousStart = start;
+        while (true) {
+            if(lazyNodes.get(node)) {
+                CommandTree expanded = expand(node);
+                return expanded.getSuggestions(input, limit, ranking, visibility == null ? null : expanded.getVisibility(visibility.getSource()));
+            }
+            int child = readLabel(node, reader, visibility);
+            boolean label = child >= 0;
+            if(!label && node != ROOT) {
+                child = readArgument(node, reader, null, 0, visibility);
+            }
+            if(child < 0 || !reader.canRead()) {
+                break;
+            }
+
+            previousNode = label ? node : -1;
+            previousStart = start;
+            node = child;
+            reader.skipWhitespace();
+            start = reader.getCursor();
+        }
+
+        IntPredicate filter = visibility == null ? SuggestionRanking.ALL : index -> visibility.canSee(labelTargets[index]);
+        List<String> suggestions = new ArrayList<>();
+        suggest(node, input, start, limit, ranking, filter, suggestions);
+        for (int i = argumentOffsets[node]; i < argumentOffsets[node + 1] && suggestions.size() < limit; i++) {
+            if(visibility == null || visibility.canSee(argumentTargets[i])) {
+                argumentTypes[i].listSuggestions(input.substring(start), suggestions);
+            }
+        }
+        if(suggestions.size() > limit) {
+            suggestions.subList(limit, suggestions.size()).clear();
+        }
+        if(previousNode >= 0 && suggestions.size() < limit) {
+            if(hasWhitespace(input, previousStart)) {
+                suggest(previousNode, input, previousStart, limit - suggestions.size(), ranking, filter, suggestions);
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Adds the labels of {@code node} that start with the rest of the input, folded as it is compared.
+     *
+     * @param node  The node.
+     * @param input  The input.
+     * @param start  Where the prefix starts.
+     * @param limit  The most suggestions to add.
+     * @param ranking  The ranking to pick the suggestions with.
+     * @param filter  The label indexes that can be suggested.
+     * @param suggestions  The suggestions.
+     */
+    private void suggest(int node, String input, int start, int limit, SuggestionRanking ranking, IntPredicate filter, List<String> suggestions) {
+        int from = labelOffsets[node];
+        int to = labelOffsets[node + 1];
+
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if(NodeUtil.comparePrefix(labelKeys[middle], input, start, input.length()) < 0) {
+                low = middle + 1;
+            }else {
+                high = middle;
+            }
+        }
+        int first = low;
+
+        high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if(NodeUtil.comparePrefix(labelKeys[middle], input, start, input.length()) == 0) {
+                low = middle + 1;
+            }else {
+                high = middle;
+            }
+        }
+
+        if(first < low && limit > 0) {
+            ranking.rank(this, first, low, limit, filter, suggestions);
+        }
+    }
+
+    /**
+     * Reads the longest label of {@code node} at the reader's cursor.
+     *
+     * @param node  The parent id.
+     * @param reader  The reader.
+     * @param visibility  What the source can see, {@code null} for everything.
+     * @return  The label id, or {@code -1} if no label matches.
+     */
+    private int readLabel(int node, StringReader reader, Visibility visibility) {
+        int labelRoot = labelRoots[node];
+        return labelRoot < 0 ? -1 : labelTrie.match(labelRoot, reader, visibility);
+    }
+
+    /**
+     * Reads the argument at the reader's cursor, trying the arguments of {@code node} in order.
+     * <p>
+     *     Only the type of the argument being tried parses the input, plain strings accept anything so they are tried last.
+     * </p>
+     *
+     * @param node  The parent id.
+     * @param reader  The reader.
+     * @param arguments  The parsed arguments by slot, can be {@code null}.
+     * @param slot  The slot the argument goes in, the amount of arguments read before it.
+     * @param visibility  What the source can see, {@code null} for everything.
+     * @return  The argument id, or {@code -1} if no argument accepts the input.
+     */
+    private int readArgument(int node, StringReader reader, ArgumentValueWrapper[] arguments, int slot, Visibility visibility) {
+        int from = argumentOffsets[node];
+        int to = argumentOffsets[node + 1];
+        int start = reader.getCursor();
+        if(from == to || !reader.canRead()) {
+            return -1;
+        }
+
+        for (int i = from; i < to; i++) {
+            if(visibility != null && !visibility.canSee(argumentTargets[i])) {
+                continue;
+            }
+            ArgumentValueWrapper parsed = argumentTypes[i].read(reader);
+
+            if(parsed != null && reader.getCursor() > start && reader.isBoundary(reader.getCursor())) {
+                if(arguments != null) {
+                    arguments[slot] = parsed;
+                }
+                return argumentTargets[i];
+            }
+            reader.setCursor(start);
+        }
+        return -1;
+    }
+
+    /**
+     * Gets what a source can see of this snapshot.
+     * <p>
+     *     A source that has every required permission bit sees the whole tree when no node has a requirement predicate,
+     *     in which case there is no need for a view.
+     * </p>
+     *
+     * @param source  The source.
+     * @return  The view, or {@code null} if the source sees everything.
+     */
+    public Visibility getVisibility(CommandSource source) {
+        if(requirements.isEmpty() && (source.getPermissions() & permissionUnion) == permissionUnion) {
+            return null;
+        }
+        return new Visibility(this, source, requirements.size());
+    }
+
+    /**
+     * Checks if any node has required permission bits or a requirement predicate.
+     *
+     * @return  If some source could be kept from seeing a node.
+     */
+    public boolean isRestricted() {
+        return permissionUnion != 0L || !requirements.isEmpty();
+    }
+
+    /**
+     * Gets the permission bits a source needs to see a node.
+     *
+     * @param node  The id.
+     * @return  The permission bits.
+     */
+    long getRequiredPermissions(int node) {
+        return requiredPermissions[node];
+    }
+
+    /**
+     * Gets where the requirement of a node sits.
+     *
+     * @param node  The id.
+     * @return  The requirement index, {@code -1} if the node has no requirement.
+     */
+    int getRequirementIndex(int node) {
+        return requirementIndexes[node];
+    }
+
+    /**
+     * Gets a requirement.
+     *
+     * @param index  The requirement index.
+     * @return  The requirement.
+     */
+    Predicate<CommandSource> getRequirement(int index) {
+        return requirements.get(index);
+    }
+
+    /**
+     * Binds the command of a node of a tree that isn't published yet.
+     *
+     * @param node  The id.
+     * @param command  The command.
+     * @see TreeSnapshot
+     */
+    void bindCommand(int node, Command command) {
+        commands[node] = command;
+        nodes[node].setCommand(command);
+    }
+
+    /**
+     * Checks if any node has a requirement predicate, which unlike permission bits can't be stored in a {@link TreeSnapshot}.
+     *
+     * @return  If there are requirement predicates.
+     */
+    boolean hasRequirementPredicates() {
+        return !requirements.isEmpty();
+    }
+
+    /**
+     * Gets where the label slice of a node starts, the slice of node {@code n} ends where the one of {@code n + 1} starts.
+     *
+     * @param node  The id, up to {@link #size()} included.
+     * @return  The label index the slice starts at.
+     */
+    int getLabelOffset(int node) {
+        return labelOffsets[node];
+    }
+
+    /**
+     * Gets the folded label at a label index.
+     *
+     * @param index  The label index.
+     * @return  The folded label.
+     */
+    String getLabelKey(int index) {
+        return labelKeys[index];
+    }
+
+    /**
+     * Gets the root trie node of a node's labels.
+     *
+     * @param node  The id.
+     * @return  The trie node, {@code -1} if the node has no labels.
+     */
+    int getLabelRoot(int node) {
+        return labelRoots[node];
+    }
+
+    /**
+     * Gets the trie the labels are matched with.
+     *
+     * @return  The trie.
+     */
+    LabelTrie getLabelTrie() {
+        return labelTrie;
+    }
+
+    /**
+     * Gets where the argument slice of a node starts, the slice of node {@code n} ends where the one of {@code n + 1} starts.
+     *
+     * @param node  The id, up to {@link #size()} included.
+     * @return  The argument index the slice starts at.
+     */
+    int getArgumentOffset(int node) {
+        return argumentOffsets[node];
+    }
+
+    /**
+     * Gets the argument node at an argument index.
+     *
+     * @param index  The argument index.
+     * @return  The id.
+     */
+    int getArgumentTarget(int index) {
+        return argumentTargets[index];
+    }
+
+    /**
+     * Materializes a lazy node and gets the tree that has its children.
+     *
+     * @param node  The lazy node.
+     * @return  The expanded tree.
+     */
+    private CommandTree expand(int node) {
+        owner(nodes[node]).materialize();
+        CommandTree expanded = this.expanded;
+        if(expanded == null) {
+            synchronized (lazyNodes) {
+                expanded = this.expanded;
+                if(expanded == null) {
+                    expanded = expander.apply(this);
+                    this.expanded = expanded;
+                }
+            }
+        }
+        return expanded;
+    }
+
+    /**
+     * Checks if a node has lazy children that this tree doesn't have.
+     *
+     * @param node  The id.
+     * @return  If the node is lazy.
+     */
+    public boolean isLazy(int node) {
+        return lazyNodes.get(node);
+    }
+
+    /**
+     * Checks if any node has lazy children that this tree doesn't have.
+     *
+     * @return  If the tree has lazy nodes.
+     */
+    boolean hasLazyNodes() {
+        return !lazyNodes.isEmpty();
+    }
+
+    /**
+     * Checks if any node is the child of more than one node, through a redirect or by sitting in several places.
+     * <p>
+     *     Such a node has a single parent, the one it was first reached from, and its path and argument slots follow that parent.
+     * </p>
+     *
+     * @return  If the tree is a graph rather than a tree.
+     */
+    public boolean hasSharedNodes() {
+        return shared;
+    }
+
+    /**
+     * Gets the amount of nodes, including {@link #ROOT}.
+     *
+     * @return  The amount of nodes.
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * Gets the source node of an id.
+     *
+     * @param node  The id.
+     * @return  The source node, {@code null} for {@link #ROOT}.
+     */
+    public CommandNode getNode(int node) {
+        return nodes[node];
+    }
+
+    /**
+     * Gets the command of an id.
+     *
+     * @param node  The id.
+     * @return  The command, or {@code null} if the node isn't executable.
+     */
+    public Command getCommand(int node) {
+        return commands[node];
+    }
+
+    /**
+     * Gets the registered root nodes, in label order.
+     *
+     * @return  The root nodes.
+     */
+    public List<CommandNode> getRoots() {
+        List<CommandNode> roots = new ArrayList<>(labelOffsets[ROOT + 1]);
+        for (int i = labelOffsets[ROOT]; i < labelOffsets[ROOT + 1]; i++) {
+            roots.add(nodes[labelTargets[i]]);
+        }
+        return roots;
+    }
+
+    /**
+     * Gets a root node by its label, ignoring case.
+     *
+     * @param name  The label.
+     * @return  The root node, or {@code null} if there is none.
+     */
+    public CommandNode getRoot(String name) {
+        int low = labelOffsets[ROOT];
+        int high = labelOffsets[ROOT + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = NodeUtil.compare(labelKeys[middle], name, 0, name.length());
+            if(comparison < 0) {
+                low = middle + 1;
+            }else if(comparison > 0) {
+                high = middle - 1;
+            }else {
+                return nodes[labelTargets[middle]];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the parent of a node.
+     *
+     * @param node  The id.
+     * @return  The parent id, {@code -1} for {@link #ROOT}.
+     */
+    public int getParent(int node) {
+        return parents[node];
+    }
+
+    /**
+     * Gets the path of a node, the labels and {@code <argument>} names from its root separated by spaces.
+     *
+     * @param node  The id.
+     * @return  The path, like {@code "hack tool ip ping <ip>"}.
+     */
+    public String getPath(int node) {
+        StringBuilder path = new StringBuilder();
+        for (; node > ROOT; node = parents[node]) {
+            path.insert(0, slots[node] >= 0 ? "<" + names[node] + ">" : names[node]);
+            if(parents[node] > ROOT) {
+                path.insert(0, ' ');
+            }
+        }
+        return path.toString();
+    }
+
+    /**
+     * Gets the slot an argument node stores its value in.
+     *
+     * @param node  The id.
+     * @return  The slot, {@code -1} if the node isn't an argument.
+     */
+    public int getSlot(int node) {
+        return slots[node];
+    }
+
+    /**
+     * Gets the amount of labels of all the nodes together.
+     *
+     * @return  The amount of labels.
+     */
+    public int getLabelCount() {
+        return labelKeys.length;
+    }
+
+    /**
+     * Gets where a label node sits in the label index, labels of the same node are contiguous and sorted.
+     *
+     * @param node  The id.
+     * @return  The label index, {@code -1} if the node isn't a label.
+     */
+    public int getLabelIndex(int node) {
+        return labelIndexes[node];
+    }
+
+    /**
+     * Gets the name of the label at a label index.
+     *
+     * @param index  The label index.
+     * @return  The name.
+     */
+    public String getLabelName(int index) {
+        return names[labelTargets[index]];
+    }
+
+    /**
+     * Gets the node of the label at a label index.
+     *
+     * @param index  The label index.
+     * @return  The id.
+     */
+    public int getLabelTarget(int index) {
+        return labelTargets[index];
+    }
+
+    /**
+     * Checks if there is whitespace anywhere in the rest of the input.
+     *
+     * @param input  The input.
+     * @param start  Where to start looking.
+     * @return  If there is whitespace.
+     */
+    private static boolean hasWhitespace(CharSequence input, int start) {
+        for (int i = start; i < input.length(); i++) {
+            if(Character.isWhitespace(input.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Folds the rest of the input to a prefix of lookup keys, keeping a trailing space.
+     *
+     * @param input  The input.
+     * @param start  Where the prefix starts.
+     * @return  The folded prefix.
+     */
+    private static String foldPrefix(CharSequence input, int start) {
+        StringBuilder prefix = new StringBuilder(input.length() - start);
+        boolean space = false;
+        for (int i = start; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if(Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if(space) {
+                prefix.append(' ');
+                space = false;
+            }
+            prefix.append(NodeUtil.fold(c));
+        }
+        if(space) {
+            prefix.append(' ');
+        }
+        return prefix.toString();
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+}
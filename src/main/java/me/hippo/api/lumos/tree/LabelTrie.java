@@ -0,0 +1,285 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.tree;
+
+import me.hippo.api.lumos.reader.StringReader;
+import me.hippo.api.lumos.util.NodeUtil;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A token level trie over the labels of the {@link CommandTree} nodes.
+ * <p>
+ *     Every label is split on its spaces, so a multi-word label like {@code "hack tool"} is a path of two edges.
+ *     Matching walks the input forward one token at a time and stops as soon as a token has no edge,
+ *     remembering the longest label seen on the way.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+final class LabelTrie {
+
+    /**
+     * Where the edge slice of each trie node starts, the slice of trie node {@code t} ends where the one of {@code t + 1} starts.
+     */
+    private final int[] edgeOffsets;
+
+    /**
+     * The folded edge tokens, sorted within every slice.
+     */
+    private final String[] edgeTokens;
+
+    /**
+     * The trie nodes the {@link #edgeTokens} lead to.
+     */
+    private final int[] edgeTargets;
+
+    /**
+     * The command node id a trie node ends a label of, indexed by trie node.
+     */
+    private final int[] terminals;
+
+    private LabelTrie(int[] edgeOffsets, String[] edgeTokens, int[] edgeTargets, int[] terminals) {
+        this.edgeOffsets = edgeOffsets;
+        this.edgeTokens = edgeTokens;
+        this.edgeTargets = edgeTargets;
+        this.terminals = terminals;
+    }
+
+    /**
+     * Writes the trie to a {@link TreeSnapshot}.
+     *
+     * @param output  The output.
+     * @param strings  The string table of the snapshot.
+     * @throws IOException  If the output can't be written to.
+     */
+    void write(DataOutputStream output, TreeSnapshot.StringTable strings) throws IOException {
+        TreeSnapshot.writeInts(output, edgeOffsets);
+        strings.write(output, edgeTokens);
+        TreeSnapshot.writeInts(output, edgeTargets);
+        TreeSnapshot.writeInts(output, terminals);
+    }
+
+    /**
+     * Reads a trie written by {@link #write(DataOutputStream, TreeSnapshot.StringTable)}.
+     *
+     * @param input  The snapshot buffer.
+     * @param strings  The string table of the snapshot.
+     * @return  The trie.
+     */
+    static LabelTrie read(ByteBuffer input, String[] strings) {
+        int[] edgeOffsets = TreeSnapshot.readInts(input);
+        String[] edgeTokens = TreeSnapshot.StringTable.read(input, strings);
+        int[] edgeTargets = TreeSnapshot.readInts(input);
+        int[] terminals = TreeSnapshot.readInts(input);
+        return new LabelTrie(edgeOffsets, edgeTokens, edgeTargets, terminals);
+    }
+
+    /**
+     * Matches the longest label below {@code root} at the reader's cursor.
+     * <p>
+     *     On a match the cursor is left at the end of the label, otherwise it is left untouched.
+     * </p>
+     *
+     * @param root  The trie node to start at.
+     * @param reader  The reader.
+     * @param visibility  The labels that can match, {@code null} for all of them.
+     * @return  The command node id of the label, or {@code -1} if no label matches.
+     */
+    int match(int root, StringReader reader, Visibility visibility) {
+        int start = reader.getCursor();
+        int match = -1;
+        int matchEnd = start;
+
+        int trieNode = root;
+        while (reader.canRead()) {
+            int tokenStart = reader.getCursor();
+            int tokenEnd = reader.skipToken();
+
+            int edge = findEdge(trieNode, reader.getInput(), tokenStart, tokenEnd);
+            if(edge < 0) {
+                break;
+            }
+
+            trieNode = edgeTargets[edge];
+            if(terminals[trieNode] >= 0 && (visibility == null || visibility.canSee(terminals[trieNode]))) {
+                match = terminals[trieNode];
+                matchEnd = tokenEnd;
+            }
+            reader.skipWhitespace();
+        }
+
+        reader.setCursor(matchEnd);
+        return match;
+    }
+
+    /**
+     * Binary searches the edges of a trie node for a token of the input.
+     *
+     * @param trieNode  The trie node.
+     * @param input  The input.
+     * @param start  The start of the token (inclusive).
+     * @param end  The end of the token (exclusive).
+     * @return  The edge, or {@code -1} if there is none.
+     */
+    private int findEdge(int trieNode, CharSequence input, int start, int end) {
+        int low = edgeOffsets[trieNode];
+        int high = edgeOffsets[trieNode + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(edgeTokens[middle], input, start, end);
+            if(comparison < 0) {
+                low = middle + 1;
+            }else if(comparison > 0) {
+                high = middle - 1;
+            }else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares a folded token with a part of the input, folding the input as it goes.
+     *
+     * @param token  The folded token.
+     * @param input  The input.
+     * @param start  The start of the part (inclusive).
+     * @param end  The end of the part (exclusive).
+     * @return  The comparison, in the same order as {@link String#compareTo(String)}.
+     */
+    private static int compare(String token, CharSequence input, int start, int end) {
+        int length = Math.min(token.length(), end - start);
+        for (int i = 0; i < length; i++) {
+            int comparison = token.charAt(i) - NodeUtil.fold(input.charAt(start + i));
+            if(comparison != 0) {
+                return comparison;
+            }
+        }
+        return token.length() - (end - start);
+    }
+
+    /**
+     * Builds a {@link LabelTrie}, one root per command node that has labels.
+     */
+    static final class Builder {
+
+        /**
+         * The edges of every trie node, {@code null} for the ones without edges.
+         */
+        private final List<Map<String, Integer>> edges = new ArrayList<>();
+
+        /**
+         * The terminals of every trie node.
+         */
+        private final List<Integer> terminals = new ArrayList<>();
+
+        /**
+         * Adds a new root.
+         *
+         * @return  The root trie node.
+         */
+        int newRoot() {
+            edges.add(null);
+            terminals.add(-1);
+            return terminals.size() - 1;
+        }
+
+        /**
+         * Inserts a folded label below a root.
+         *
+         * @param root  The root trie node.
+         * @param key  The folded label, tokens separated by single spaces.
+         * @param target  The command node id of the label.
+         */
+        void insert(int root, String key, int target) {
+            int trieNode = root;
+            int tokenStart = 0;
+            while (tokenStart <= key.length()) {
+                int tokenEnd = key.indexOf(' ', tokenStart);
+                if(tokenEnd < 0) {
+                    tokenEnd = key.length();
+                }
+                trieNode = child(trieNode, tokenStart == 0 && tokenEnd == key.length() ? key : key.substring(tokenStart, tokenEnd));
+                tokenStart = tokenEnd + 1;
+            }
+            terminals.set(trieNode, target);
+        }
+
+        /**
+         * Gets the trie node a token leads to, adding it if there is none.
+         *
+         * @param trieNode  The trie node.
+         * @param token  The token.
+         * @return  The child trie node.
+         */
+        private int child(int trieNode, String token) {
+            Map<String, Integer> children = edges.get(trieNode);
+            if(children == null) {
+                children = new TreeMap<>();
+                edges.set(trieNode, children);
+            }
+            Integer next = children.get(token);
+            if(next == null) {
+                next = newRoot();
+                children.put(token, next);
+            }
+            return next;
+        }
+
+        /**
+         * Flattens the trie into arrays.
+         *
+         * @return  The trie.
+         */
+        LabelTrie build() {
+            int size = terminals.size();
+            int[] edgeOffsets = new int[size + 1];
+            int[] terminalArray = new int[size];
+            List<String> edgeTokens = new ArrayList<>();
+            List<Integer> edgeTargets = new ArrayList<>();
+
+            for (int trieNode = 0; trieNode < size; trieNode++) {
+                edgeOffsets[trieNode] = edgeTokens.size();
+                terminalArray[trieNode] = terminals.get(trieNode);
+                Map<String, Integer> children = edges.get(trieNode);
+                if(children == null) {
+                    continue;
+                }
+                for (Map.Entry<String, Integer> edge : children.entrySet()) {
+                    edgeTokens.add(edge.getKey());
+                    edgeTargets.add(edge.getValue());
+                }
+            }
+            edgeOffsets[size] = edgeTokens.size();
+
+            int[] edgeTargetArray = new int[edgeTargets.size()];
+            for (int i = 0; i < edgeTargetArray.length; i++) {
+                edgeTargetArray[i] = edgeTargets.get(i);
+            }
+            return new LabelTrie(edgeOffsets, edgeTokens.toArray(new String[0]), edgeTargetArray, terminalArray);
+        }
+    }
+}
@@ -0,0 +1,488 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.tree;
+
+import me.hippo.api.lumos.Command;
+import me.hippo.api.lumos.argument.ArgumentType;
+import me.hippo.api.lumos.exception.StaleSnapshotException;
+import me.hippo.api.lumos.node.CommandNode;
+import me.hippo.api.lumos.node.argument.ArgumentCommandNode;
+import me.hippo.api.lumos.node.label.LabelCommandNode;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Stores a compiled {@link CommandTree} in a compact binary file, and loads it back without compiling it.
+ * <p>
+ *     The file holds the labels, the argument types, the children and the node ids of the tree, laid out the way
+ *     the tree keeps them, so loading is a single pass over a memory-mapped file.
+ *     {@link Command}s can't be stored, they are bound again on load by the path of their node, see {@link CommandTree#getPath(int)},
+ *     which stays the same as long as the command structure does.
+ * </p>
+ * <p>
+ *     A snapshot is only loaded if its fingerprint is the one asked for, its checksum holds, and its executable paths are
+ *     exactly the ones handlers are given for. Otherwise a {@link StaleSnapshotException} is thrown, and the commands
+ *     should be registered the regular way, see {@link me.hippo.api.lumos.CommandDispatcher#loadSnapshot}.
+ * </p>
+ * <p>
+ *     Argument types are stored by class and made again with their public no-argument constructor, one instance per class.
+ *     Permission bits are stored, requirement predicates can't be, nor lazy children since that would build them.
+ *     The nodes have to form a tree, redirects and nodes that sit in several places can't be stored either.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public enum TreeSnapshot {
+    ;
+
+    /**
+     * The first bytes of every snapshot, {@code "LUMS"}.
+     */
+    private static final int MAGIC = 0x4C554D53;
+
+    /**
+     * The version of the format, bumped whenever the layout changes.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * The length of the header, the magic, the format version, the fingerprint, the checksum and the body length.
+     */
+    private static final int HEADER_LENGTH = 4 + 4 + 8 + 8 + 4;
+
+    /**
+     * The argument type of label nodes.
+     */
+    private static final int LABEL = -1;
+
+    /**
+     * Stands in for the commands of a freshly read snapshot until they are bound.
+     */
+    private static final Command MISSING = commandContext -> {
+        throw new IllegalStateException("The command wasn't bound");
+    };
+
+    /**
+     * Writes a snapshot of a tree, replacing the file atomically so a crash never leaves half a snapshot behind.
+     *
+     * @param tree  The tree.
+     * @param fingerprint  Whatever identifies the registered commands, like a hash of the versions of the plugins that registered them.
+     * @param path  The file.
+     * @throws IOException  If the file can't be written.
+     * @throws IllegalArgumentException  If the tree has requirement predicates, lazy nodes or shared nodes,
+     *                                   or two executable nodes with the same path.
+     */
+    public static void write(CommandTree tree, long fingerprint, Path path) throws IOException {
+        if(tree.hasRequirementPredicates()) {
+            throw new IllegalArgumentException("Requirement predicates can't be stored in a snapshot, use permission bits instead");
+        }
+        if(tree.hasLazyNodes()) {
+            throw new IllegalArgumentException("Lazy children can't be stored in a snapshot");
+        }
+        if(tree.hasSharedNodes()) {
+            throw new IllegalArgumentException("Redirects and shared nodes can't be stored in a snapshot");
+        }
+
+        StringTable strings = new StringTable();
+        ByteArrayOutputStream references = new ByteArrayOutputStream(32 * tree.size());
+        writeBody(tree, new DataOutputStream(references), strings);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(references.size() + 16 * strings.size());
+        DataOutputStream bodyOutput = new DataOutputStream(body);
+        strings.write(bodyOutput);
+        references.writeTo(bodyOutput);
+        bodyOutput.flush();
+        byte[] bytes = body.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length);
+
+        Path parent = path.toAbsolutePath().getParent();
+        if(parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeLong(fingerprint);
+            output.writeLong(checksum.getValue());
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes the body of a snapshot, everything after the header and the string table.
+     *
+     * @param tree  The tree.
+     * @param output  The output.
+     * @param strings  The string table the strings are put in, only their index is written.
+     * @throws IOException  If the output can't be written to.
+     */
+    private static void writeBody(CommandTree tree, DataOutputStream output, StringTable strings) throws IOException {
+        int size = tree.size();
+        Map<Class<?>, Integer> types = new LinkedHashMap<>();
+        for (int id = 1; id < size; id++) {
+            CommandNode node = tree.getNode(id);
+            if(node instanceof ArgumentCommandNode) {
+                types.putIfAbsent(((ArgumentCommandNode) node).getArgumentType().getClass(), types.size());
+            }
+        }
+        output.writeInt(types.size());
+        for (Class<?> type : types.keySet()) {
+            output.writeInt(strings.indexOf(type.getName()));
+        }
+
+        Set<String> executablePaths = new HashSet<>();
+        output.writeInt(size);
+        for (int id = 1; id < size; id++) {
+            CommandNode node = tree.getNode(id);
+            boolean executable = tree.getCommand(id) != null;
+            if(executable && !executablePaths.add(tree.getPath(id))) {
+                throw new IllegalArgumentException("Two executable nodes have the path " + tree.getPath(id));
+            }
+
+            output.writeInt(tree.getParent(id));
+            output.writeInt(node instanceof ArgumentCommandNode ? types.get(((ArgumentCommandNode) node).getArgumentType().getClass()) : LABEL);
+            output.writeBoolean(executable);
+            output.writeLong(tree.getRequiredPermissions(id));
+            output.writeInt(strings.indexOf(node.getName()));
+        }
+
+        int[] labelOffsets = new int[size + 1];
+        int[] labelRoots = new int[size];
+        int[] argumentOffsets = new int[size + 1];
+        for (int id = 0; id <= size; id++) {
+            labelOffsets[id] = tree.getLabelOffset(id);
+            argumentOffsets[id] = tree.getArgumentOffset(id);
+            if(id < size) {
+                labelRoots[id] = tree.getLabelRoot(id);
+            }
+        }
+        String[] labelKeys = new String[tree.getLabelCount()];
+        int[] labelTargets = new int[labelKeys.length];
+        for (int i = 0; i < labelKeys.length; i++) {
+            labelKeys[i] = tree.getLabelKey(i);
+            labelTargets[i] = tree.getLabelTarget(i);
+        }
+        int[] argumentTargets = new int[argumentOffsets[size]];
+        for (int i = 0; i < argumentTargets.length; i++) {
+            argumentTargets[i] = tree.getArgumentTarget(i);
+        }
+
+        writeInts(output, labelOffsets);
+        strings.write(output, labelKeys);
+        writeInts(output, labelTargets);
+        writeInts(output, labelRoots);
+        tree.getLabelTrie().write(output, strings);
+        writeInts(output, argumentOffsets);
+        writeInts(output, argumentTargets);
+        output.flush();
+    }
+
+    /**
+     * Loads a snapshot and binds its commands.
+     *
+     * @param path  The file.
+     * @param fingerprint  The fingerprint the snapshot has to have been written with.
+     * @param handlers  The commands, keyed by the path of the node they are executed at, like {@code "hack tool ip ping <ip>"}.
+     * @return  The tree.
+     * @throws StaleSnapshotException  If the snapshot is corrupt, was written with another fingerprint or format,
+     *                                 or its executable paths aren't exactly the ones of the handlers.
+     * @throws IOException  If the file can't be read, {@link java.nio.file.NoSuchFileException} if there is none.
+     */
+    public static CommandTree read(Path path, long fingerprint, Map<String, ? extends Command> handlers) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if(channel.size() < HEADER_LENGTH || channel.size() > Integer.MAX_VALUE) {
+                throw new StaleSnapshotException("The snapshot " + path + " has an invalid length of " + channel.size() + " bytes");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if(buffer.getInt() != MAGIC) {
+            throw new StaleSnapshotException(path + " isn't a snapshot");
+        }
+        int formatVersion = buffer.getInt();
+        if(formatVersion != FORMAT_VERSION) {
+            throw new StaleSnapshotException("The snapshot has format " + formatVersion + ", expected " + FORMAT_VERSION);
+        }
+        long snapshotFingerprint = buffer.getLong();
+        if(snapshotFingerprint != fingerprint) {
+            throw new StaleSnapshotException("The snapshot has fingerprint " + Long.toHexString(snapshotFingerprint) + ", expected " + Long.toHexString(fingerprint));
+        }
+        long expectedChecksum = buffer.getLong();
+        int length = buffer.getInt();
+        if(length != buffer.remaining()) {
+            throw new StaleSnapshotException("The snapshot is truncated");
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate());
+        if(checksum.getValue() != expectedChecksum) {
+            throw new StaleSnapshotException("The snapshot checksum doesn't match");
+        }
+
+        CommandTree tree;
+        try {
+            tree = readBody(buffer, StringTable.read(buffer));
+        }catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException | ClassCastException e) {
+            throw new StaleSnapshotException("The snapshot is corrupt", e);
+        }
+        bind(tree, handlers);
+        return tree;
+    }
+
+    /**
+     * Reads the body of a snapshot.
+     *
+     * @param input  The buffer, past the string table.
+     * @param strings  The string table.
+     * @return  The tree, without commands.
+     * @throws StaleSnapshotException  If an argument type can't be made.
+     */
+    private static CommandTree readBody(ByteBuffer input, String[] strings) throws StaleSnapshotException {
+        ArgumentType<?>[] types = new ArgumentType<?>[input.getInt()];
+        for (int i = 0; i < types.length; i++) {
+            String type = strings[input.getInt()];
+            try {
+                types[i] = (ArgumentType<?>) Class.forName(type).getConstructor().newInstance();
+            }catch (ReflectiveOperationException | ClassCastException e) {
+                throw new StaleSnapshotException("The argument type " + type + " can't be made", e);
+            }
+        }
+
+        int size = input.getInt();
+        CommandNode[] nodes = new CommandNode[size];
+        int[] parents = new int[size];
+        boolean[] executable = new boolean[size];
+        parents[CommandTree.ROOT] = -1;
+        for (int id = 1; id < size; id++) {
+            parents[id] = input.getInt();
+            int type = input.getInt();
+            executable[id] = input.get() != 0;
+            long requiredPermissions = input.getLong();
+            String name = strings[input.getInt()];
+
+            CommandNode node = type == LABEL ? new LabelCommandNode(name) : new ArgumentCommandNode(name, types[type]);
+            node.setRequiredPermissions(requiredPermissions);
+            nodes[id] = node;
+            if(parents[id] != CommandTree.ROOT) {
+                nodes[parents[id]].addChild(node);
+            }
+        }
+
+        int[] labelOffsets = readInts(input);
+        String[] labelKeys = StringTable.read(input, strings);
+        int[] labelTargets = readInts(input);
+        int[] labelRoots = readInts(input);
+        LabelTrie labelTrie = LabelTrie.read(input, strings);
+        int[] argumentOffsets = readInts(input);
+        int[] argumentTargets = readInts(input);
+
+        CommandTree tree = CommandTree.restore(nodes, parents, labelOffsets, labelKeys, labelTargets, labelTrie, labelRoots, argumentOffsets, argumentTargets);
+        for (int id = 1; id < size; id++) {
+            if(executable[id]) {
+                tree.bindCommand(id, MISSING);
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * Binds the commands of a freshly read snapshot, by the path of their node.
+     * <p>
+     *     Parents come before their children, so the path of every node is its parent's plus one name.
+     * </p>
+     *
+     * @param tree  The tree.
+     * @param handlers  The commands, keyed by path.
+     * @throws StaleSnapshotException  If the executable paths aren't exactly the ones of the handlers.
+     */
+    private static void bind(CommandTree tree, Map<String, ? extends Command> handlers) throws StaleSnapshotException {
+        String[] paths = new String[tree.size()];
+        paths[CommandTree.ROOT] = "";
+        int bound = 0;
+        for (int id = 1; id < paths.length; id++) {
+            String name = tree.getSlot(id) >= 0 ? "<" + tree.getNode(id).getName() + ">" : tree.getNode(id).getName();
+            String parentPath = paths[tree.getParent(id)];
+            paths[id] = parentPath.isEmpty() ? name : parentPath + " " + name;
+
+            if(tree.getCommand(id) != null) {
+                Command command = handlers.get(paths[id]);
+                if(command == null) {
+                    throw new StaleSnapshotException("The snapshot has no handler for " + paths[id]);
+                }
+                tree.bindCommand(id, command);
+                bound++;
+            }
+        }
+
+        if(bound != handlers.size()) {
+            Set<String> unbound = new HashSet<>(handlers.keySet());
+            unbound.removeAll(Arrays.asList(paths));
+            throw new StaleSnapshotException("The snapshot has no command at " + unbound.iterator().next());
+        }
+    }
+
+    /**
+     * Writes an int array, its length first.
+     *
+     * @param output  The output.
+     * @param values  The values.
+     * @throws IOException  If the output can't be written to.
+     */
+    static void writeInts(DataOutputStream output, int[] values) throws IOException {
+        output.writeInt(values.length);
+        for (int value : values) {
+            output.writeInt(value);
+        }
+    }
+
+    /**
+     * Reads an int array written by {@link #writeInts(DataOutputStream, int[])}.
+     *
+     * @param input  The buffer.
+     * @return  The values.
+     */
+    static int[] readInts(ByteBuffer input) {
+        int[] values = new int[input.getInt()];
+        input.asIntBuffer().get(values);
+        input.position(input.position() + values.length * 4);
+        return values;
+    }
+
+    /**
+     * The distinct strings of a snapshot, written once at the start of the body and referred to by index,
+     * so names, folded labels and trie tokens that are the same are only decoded once.
+     */
+    static final class StringTable {
+
+        /**
+         * The index of every string, in the order they were added.
+         */
+        private final Map<String, Integer> indexes = new LinkedHashMap<>();
+
+        /**
+         * Gets the index of a string, adding it if it wasn't yet.
+         *
+         * @param value  The string.
+         * @return  The index.
+         */
+        int indexOf(String value) {
+            Integer index = indexes.get(value);
+            if(index == null) {
+                index = indexes.size();
+                indexes.put(value, index);
+            }
+            return index;
+        }
+
+        /**
+         * Gets the amount of strings.
+         *
+         * @return  The amount of strings.
+         */
+        int size() {
+            return indexes.size();
+        }
+
+        /**
+         * Writes the indexes of a string array, its length first.
+         *
+         * @param output  The output.
+         * @param values  The values.
+         * @throws IOException  If the output can't be written to.
+         */
+        void write(DataOutputStream output, String[] values) throws IOException {
+            output.writeInt(values.length);
+            for (String value : values) {
+                output.writeInt(indexOf(value));
+            }
+        }
+
+        /**
+         * Writes the table, every string as its UTF-8 length and bytes.
+         *
+         * @param output  The output.
+         * @throws IOException  If the output can't be written to.
+         */
+        void write(DataOutputStream output) throws IOException {
+            output.writeInt(indexes.size());
+            for (String value : indexes.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+        }
+
+        /**
+         * Reads a table written by {@link #write(DataOutputStream)}.
+         *
+         * @param input  The buffer.
+         * @return  The strings, by index.
+         */
+        static String[] read(ByteBuffer input) {
+            String[] strings = new String[input.getInt()];
+            byte[] bytes = new byte[64];
+            for (int i = 0; i < strings.length; i++) {
+                int length = input.getInt();
+                if(length > bytes.length) {
+                    bytes = new byte[Math.max(length, bytes.length * 2)];
+                }
+                input.get(bytes, 0, length);
+                strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+            return strings;
+        }
+
+        /**
+         * Reads a string array written by {@link #write(DataOutputStream, String[])}.
+         *
+         * @param input  The buffer.
+         * @param strings  The table.
+         * @return  The values.
+         */
+        static String[] read(ByteBuffer input, String[] strings) {
+            String[] values = new String[input.getInt()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = strings[input.getInt()];
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.tree;
+
+import me.hippo.api.lumos.source.CommandSource;
+
+/**
+ * What one {@link CommandSource} can see of a {@link CommandTree} snapshot.
+ * <p>
+ *     Required permission bits are checked against the bits the source had when the view was made with a single mask test.
+ *     Requirement predicates are evaluated the first time a node is reached and their outcome is kept,
+ *     so a view is only good as long as {@link #isCurrent(CommandTree)} holds.
+ * </p>
+ *
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class Visibility {
+
+    /**
+     * A requirement that wasn't evaluated yet.
+     */
+    private static final byte UNKNOWN = 0;
+
+    /**
+     * A requirement the source meets.
+     */
+    private static final byte ALLOWED = 1;
+
+    /**
+     * A requirement the source doesn't meet.
+     */
+    private static final byte DENIED = 2;
+
+    /**
+     * The snapshot.
+     */
+    private final CommandTree tree;
+
+    /**
+     * The source.
+     */
+    private final CommandSource source;
+
+    /**
+     * The permission bits of the source.
+     */
+    private final long permissions;
+
+    /**
+     * The permission version of the source.
+     */
+    private final long version;
+
+    /**
+     * The outcome of every requirement, indexed by requirement index.
+     * <p>
+     *     Racing threads can both evaluate a requirement, which only costs the second evaluation.
+     * </p>
+     */
+    private final byte[] outcomes;
+
+    Visibility(CommandTree tree, CommandSource source, int requirementCount) {
+        this.tree = tree;
+        this.source = source;
+        this.permissions = source.getPermissions();
+        this.version = source.getPermissionVersion();
+        this.outcomes = new byte[requirementCount];
+    }
+
+    /**
+     * Checks if the source can see a node, not looking at the nodes above it.
+     *
+     * @param node  The id.
+     * @return  If the node is visible.
+     */
+    public boolean canSee(int node) {
+        long required = tree.getRequiredPermissions(node);
+        if((permissions & required) != required) {
+            return false;
+        }
+
+        int index = tree.getRequirementIndex(node);
+        if(index < 0) {
+            return true;
+        }
+        byte outcome = outcomes[index];
+        if(outcome == UNKNOWN) {
+            outcome = tree.getRequirement(index).test(source) ? ALLOWED : DENIED;
+            outcomes[index] = outcome;
+        }
+        return outcome == ALLOWED;
+    }
+
+    /**
+     * Checks if the source can see a node and every node above it.
+     * <p>
+     *     A shared node is checked along its {@link CommandTree#getParent(int) parent}, parsing checks the path it actually took.
+     * </p>
+     *
+     * @param node  The id.
+     * @return  If the path to the node is visible.
+     */
+    public boolean canSeePath(int node) {
+        for (; node > CommandTree.ROOT; node = tree.getParent(node)) {
+            if(!canSee(node)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the view still holds for a snapshot, that is if it was made for it and the source's permissions didn't change.
+     *
+     * @param tree  The snapshot.
+     * @return  If the view is current.
+     */
+    public boolean isCurrent(CommandTree tree) {
+        return this.tree == tree && source.getPermissions() == permissions && source.getPermissionVersion() == version;
+    }
+
+    /**
+     * Gets the snapshot.
+     *
+     * @return  The snapshot.
+     */
+    public CommandTree getTree() {
+        return tree;
+    }
+
+    /**
+     * Gets the source.
+     *
+     * @return  The source.
+     */
+    public CommandSource getSource() {
+        return source;
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.util;
+
+import me.hippo.api.lumos.node.CommandNode;
+import me.hippo.api.lumos.node.argument.ArgumentCommandNode;
+import me.hippo.api.lumos.node.label.LabelCommandNode;
+import me.hippo.api.lumos.reader.StringReader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public enum NodeUtil {
+    ;
+
+    /**
+     * Folds a label to its lookup key, lower case with single spaces between the tokens.
+     * <p>
+     *     This is the one matching rule of labels, at every level of the tree. The other folding methods
+     *     apply it to a range of the input as they go, so input never has to be folded into a new {@link String}.
+     * </p>
+     *
+     * @param label  The label.
+     * @return  The key, the label itself if it is folded already.
+     */
+    public static String fold(String label) {
+        if(isFolded(label)) {
+            return label;
+        }
+        StringBuilder key = new StringBuilder(label.length());
+        StringReader reader = new StringReader(label);
+        reader.skipWhitespace();
+        while (reader.canRead()) {
+            if(key.length() > 0) {
+                key.append(' ');
+            }
+            int tokenStart = reader.getCursor();
+            int tokenEnd = reader.skipToken();
+            for (int i = tokenStart; i < tokenEnd; i++) {
+                key.append(fold(label.charAt(i)));
+            }
+            reader.skipWhitespace();
+        }
+        return key.toString();
+    }
+
+    /**
+     * Folds a char of a label, see {@link #fold(String)}.
+     *
+     * @param c  The char.
+     * @return  The folded char.
+     */
+    public static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * Checks if a label is its own key.
+     *
+     * @param label  The label.
+     * @return  If the label is folded.
+     */
+    private static boolean isFolded(String label) {
+        for (int i = 0; i < label.length(); i++) {
+            char c = label.charAt(i);
+            if(c == ' ' ? i == 0 || i == label.length() - 1 || label.charAt(i - 1) == ' ' : Character.isWhitespace(c) || fold(c) != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares a key with the folded form of a range of the input, without folding it into a new {@link String}.
+     *
+     * @param key  The folded key.
+     * @param input  The input.
+     * @param start  The start of the range (inclusive).
+     * @param end  The end of the range (exclusive).
+     * @return  The comparison of the key with the folded range, in the same order as {@link String#compareTo(String)}.
+     */
+    public static int compare(String key, CharSequence input, int start, int end) {
+        int k = 0;
+        int i = skipWhitespace(input, start, end);
+        while (i < end) {
+            char c = input.charAt(i++);
+            if(Character.isWhitespace(c)) {
+                i = skipWhitespace(input, i, end);
+                if(i == end) {
+                    break;
+                }
+                c = ' ';
+            }
+            if(k == key.length()) {
+                return -1;
+            }
+            int comparison = key.charAt(k++) - fold(c);
+            if(comparison != 0) {
+                return comparison;
+            }
+        }
+        return key.length() - k;
+    }
+
+    /**
+     * Compares a key with the folded form of a range of the input taken as a prefix, whitespace at its end included.
+     *
+     * @param key  The folded key.
+     * @param input  The input.
+     * @param start  The start of the prefix (inclusive).
+     * @param end  The end of the prefix (exclusive).
+     * @return  {@code 0} if the key starts with the prefix, otherwise the comparison of the key with the prefix.
+     */
+    public static int comparePrefix(String key, CharSequence input, int start, int end) {
+        int k = 0;
+        int i = skipWhitespace(input, start, end);
+        while (i < end) {
+            char c = input.charAt(i++);
+            if(Character.isWhitespace(c)) {
+                i = skipWhitespace(input, i, end);
+                c = ' ';
+            }
+            if(k == key.length()) {
+                return -1;
+            }
+            int comparison = key.charAt(k++) - fold(c);
+            if(comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Checks if two names are the same once folded, like argument names.
+     *
+     * @param name  The name.
+     * @param other  The other name.
+     * @return  If they are equal.
+     */
+    public static boolean equalsFolded(String name, String other) {
+        if(name.length() != other.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char a = name.charAt(i);
+            char b = other.charAt(i);
+            if(a != b && fold(a) != fold(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(CharSequence input, int start, int end) {
+        while (start < end && Character.isWhitespace(input.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Checks that a node and everything below it can be registered.
+     * <p>
+     *     Labels need a name with some text in it, arguments a name and a type,
+     *     and no node may be its own descendant. A node can still sit in several places,
+     *     and redirect to any node, its ancestors included. Redirect targets are checked too, and a node that
+     *     redirects can't have children of its own.
+     * </p>
+     *
+     * @param node  The node.
+     * @return  The node.
+     * @throws IllegalArgumentException  If something below the node can't be registered, the message names its path.
+     */
+    public static CommandNode validate(CommandNode node) {
+        Set<CommandNode> targets = Collections.newSetFromMap(new IdentityHashMap<>());
+        targets.add(node);
+        validate(node, new ArrayList<>(), Collections.newSetFromMap(new IdentityHashMap<>()), targets);
+        return node;
+    }
+
+    /**
+     * Validates a node below its ancestors.
+     *
+     * @param node  The node.
+     * @param path  The ancestors, from the root.
+     * @param ancestors  The ancestors, to find cycles with.
+     * @param targets  The redirect targets that were checked already.
+     */
+    private static void validate(CommandNode node, List<CommandNode> path, Set<CommandNode> ancestors, Set<CommandNode> targets) {
+        String name = node.getName();
+        if(node instanceof ArgumentCommandNode) {
+            if(name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("An argument under \"" + join(path, null) + "\" has no name");
+            }
+            if(((ArgumentCommandNode) node).getArgumentType() == null) {
+                throw new IllegalArgumentException("The argument \"" + join(path, node) + "\" has no type");
+            }
+        }else if(name == null || node.getKey().isEmpty()) {
+            throw new IllegalArgumentException("A label under \"" + join(path, null) + "\" has no name");
+        }
+
+        if(!ancestors.add(node)) {
+            throw new IllegalArgumentException("The node \"" + join(path, node) + "\" is its own descendant");
+        }
+        path.add(node);
+        CommandNode redirect = node.getRedirect();
+        if(redirect != null) {
+            if(!node.getChildren().isEmpty() || node.isLazy()) {
+                throw new IllegalArgumentException("The node \"" + join(path, null) + "\" has children and redirects");
+            }
+            if(targets.add(redirect)) {
+                validate(redirect, path, Collections.newSetFromMap(new IdentityHashMap<>()), targets);
+            }
+        }
+        for (CommandNode child : node.getChildren()) {
+            validate(child, path, ancestors, targets);
+        }
+        path.remove(path.size() - 1);
+        ancestors.remove(node);
+    }
+
+    /**
+     * Joins the names on a path, for error messages.
+     *
+     * @param path  The ancestors, from the root.
+     * @param node  The node at the end of the path, can be {@code null}.
+     * @return  The names separated by spaces.
+     */
+    private static String join(List<CommandNode> path, CommandNode node) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (CommandNode ancestor : path) {
+            joiner.add(ancestor.getName());
+        }
+        if(node != null) {
+            joiner.add(node.getName());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Merges two versions of a node into a new one, neither of them is changed.
+     *
+     * @param earlier  The node registered first.
+     * @param later  The node registered last.
+     * @return  The merged node.
+     * @throws IllegalArgumentException  If two arguments with the same name have different types,
+     *                                   or if the nodes aren't both labels or both arguments.
+     * @see #merge(List)
+     */
+    public static CommandNode merge(CommandNode earlier, CommandNode later) {
+        return merge(Arrays.asList(earlier, later));
+    }
+
+    /**
+     * Merges several versions of a node into a new one in a single pass, none of them is changed.
+     * <p>
+     *     Children that are in several versions are merged the same way, labels being matched by their folded name
+     *     and arguments by their name ignoring case. The command, permission bits and requirement of the last version
+     *     that has them win, and so does its redirect. Children that are only in one version are shared, not copied.
+     *     Lazy children are supplied together when the merged node is materialized, without being merged with the others.
+     * </p>
+     *
+     * @param versions  The versions, in the order they were registered.
+     * @return  The merged node, the only version itself if there is one.
+     * @throws IllegalArgumentException  If two arguments with the same name have different types,
+     *                                   if the versions aren't all labels or all arguments,
+     *                                   or if one version redirects and another has children.
+     */
+    public static CommandNode merge(List<CommandNode> versions) {
+        return merge(versions, "");
+    }
+
+    private static CommandNode merge(List<CommandNode> versions, String parentPath) {
+        CommandNode last = versions.get(versions.size() - 1);
+        if(versions.size() == 1) {
+            return last;
+        }
+        String path = parentPath.isEmpty() ? last.getName() : parentPath + " " + last.getName();
+
+        CommandNode merged;
+        if(last instanceof ArgumentCommandNode) {
+            ArgumentCommandNode argument = (ArgumentCommandNode) last;
+            merged = new ArgumentCommandNode(argument.getName(), argument.getArgumentType());
+        }else {
+            merged = new LabelCommandNode(last.getName());
+        }
+
+        Map<String, List<CommandNode>> children = new LinkedHashMap<>();
+        List<Supplier<? extends Collection<? extends CommandNode>>> lazyChildren = new ArrayList<>(0);
+        for (CommandNode version : versions) {
+            if(version instanceof ArgumentCommandNode != last instanceof ArgumentCommandNode) {
+                throw new IllegalArgumentException("The node \"" + path + "\" is registered both as a label and as an argument");
+            }
+            if(version instanceof ArgumentCommandNode
+                    && ((ArgumentCommandNode) version).getArgumentType().getClass() != ((ArgumentCommandNode) last).getArgumentType().getClass()) {
+                throw new IllegalArgumentException("The argument \"" + path + "\" is registered with two different types");
+            }
+
+            if(version.getCommand() != null) {
+                merged.setCommand(version.getCommand());
+            }
+            if(version.getRequiredPermissions() != 0L) {
+                merged.setRequiredPermissions(version.getRequiredPermissions());
+            }
+            if(version.getRequirement() != null) {
+                merged.setRequirement(version.getRequirement());
+            }
+            if(version.getRedirect() != null) {
+                merged.setRedirect(version.getRedirect());
+            }
+            Supplier<? extends Collection<? extends CommandNode>> lazy = version.getLazyChildren();
+            if(lazy != null) {
+                lazyChildren.add(lazy);
+            }
+            for (CommandNode child : version.getChildren()) {
+                children.computeIfAbsent(mergeKey(child), key -> new ArrayList<>(1)).add(child);
+            }
+        }
+        if(merged.getRedirect() != null && (!children.isEmpty() || !lazyChildren.isEmpty())) {
+            throw new IllegalArgumentException("The node \"" + path + "\" has children and redirects");
+        }
+        if(!lazyChildren.isEmpty()) {
+            merged.setLazyChildren(() -> {
+                List<CommandNode> supplied = new ArrayList<>();
+                for (Supplier<? extends Collection<? extends CommandNode>> lazy : lazyChildren) {
+                    supplied.addAll(lazy.get());
+                }
+                return supplied;
+            });
+        }
+        List<CommandNode> mergedChildren = new ArrayList<>(children.size());
+        for (List<CommandNode> child : children.values()) {
+            mergedChildren.add(merge(child, path));
+        }
+        merged.addChildren(mergedChildren);
+        return merged;
+    }
+
+    /**
+     * Gets what two versions of a node are matched with when merging.
+     *
+     * @param node  The node.
+     * @return  The key, arguments and labels never share one.
+     */
+    private static String mergeKey(CommandNode node) {
+        return node instanceof ArgumentCommandNode ? "<" + node.getKey() + ">" : node.getKey();
+    }
+}
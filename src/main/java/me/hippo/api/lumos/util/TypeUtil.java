@@ -17,13 +17,46 @@
 package me.hippo.api.lumos.util;
 
 /**
+ * Parsers for the primitive argument types.
+ * <p>
+ *     The parsers work on a char range of the input so no {@link String} has to be cut out for a token,
+ *     and they never throw, the {@code is} methods tell if a range can be parsed at all.
+ * </p>
+ *
  * @author Hippo
- * @version 1.1.0, 07/25/2019
+ * @version 1.2.0, 10/18/2026
  * @since 1.1.0
  */
 public enum TypeUtil {
     ;
 
+    /**
+     * What {@link #parseBoolean(CharSequence, int, int)} returns for input that isn't a boolean.
+     */
+    public static final int NOT_A_BOOLEAN = -1;
+
+    /**
+     * The words that are booleans, indexed by their length.
+     */
+    private static final String[][] BOOLEAN_WORDS = {
+            {}, {}, {"no", "on"}, {"off", "yes"}, {"true"}, {"false"}
+    };
+
+    /**
+     * The values of the {@link #BOOLEAN_WORDS}.
+     */
+    private static final boolean[][] BOOLEAN_VALUES = {
+            {}, {}, {false, true}, {false, true}, {true}, {false}
+    };
+
+    /**
+     * The powers of ten a double can hold exactly.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
     /**
      * Parses {@code input} to a {@link Double}.
      *
@@ -31,11 +64,7 @@ public enum TypeUtil {
      * @return  The double value, if {@code input} is not a double it will return {@code null}.
      */
     public static Double parseDouble(String input) {
-        try {
-            return Double.parseDouble(input);
-        }catch (NumberFormatException e) {
-            return null;
-        }
+        return isDouble(input, 0, input.length()) ? parseDouble(input, 0, input.length()) : null;
     }
 
     /**
@@ -45,42 +74,298 @@ public enum TypeUtil {
      * @return  The boolean value, if {@code input} is not a boolean it will return {@code null}.
      */
     public static Boolean parseBoolean(String input) {
-        input = translateBoolean(input);
+        int value = parseBoolean(input, 0, input.length());
+        return value == NOT_A_BOOLEAN ? null : value == 1;
+    }
+
+    /**
+     * Checks if a range of the input is an int.
+     *
+     * @param input  The input.
+     * @param start  The start of the range (inclusive).
+     * @param end  The end of the range (exclusive).
+     * @return  If the range is an int.
+     */
+    public static boolean isInt(CharSequence input, int start, int end) {
+        if(!isLong(input, start, end)) {
+            return false;
+        }
+        long value = parseLong(input, start, end);
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Parses a range of the input that {@link #isInt(CharSequence, int, int)}.
+     *
+     * @param input  The input.
+     * @param start  The start of the range (inclusive).
+     * @param end  The end of the range (exclusive).
+     * @return  The int.
+     */
+    public static int parseInt(CharSequence input, int start, int end) {
+        return (int) parseLong(input, start, end);
+    }
+
+    /**
+     * Checks if a range of the input is a long, an optional sign followed by digits that don't overflow.
+     *
+     * @param input  The input.
+     * @param start  The start of the range (inclusive).
+     * @param end  The end of the range (exclusive).
+     * @return  If the range is a long.
+     */
+    public static boolean isLong(CharSequence input, int start, int end) {
+        boolean negative = start < end && input.charAt(start) == '-';
+        if(negative || start < end && input.charAt(start) == '+') {
+            start++;
+        }
+        if(start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if(!isDigit(input.charAt(i))) {
+                return false;
+            }
+        }
+
+        int digits = end - start;
+        while (digits > 19 && input.charAt(start) == '0') {
+            start++;
+            digits--;
+        }
+        if(digits < 19) {
+            return true;
+        }
+        if(digits > 19) {
+            return false;
+        }
+        String limit = negative ? "9223372036854775808" : "9223372036854775807";
+        for (int i = 0; i < 19; i++) {
+            int comparison = input.charAt(start + i) - limit.charAt(i);
+            if(comparison != 0) {
+                return comparison < 0;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a range of the input that {@link #isLong(CharSequence, int, int)}.
+     *
+     * @param input  The input.
+     * @param start  The start of the range (inclusive).
+     * @param end  The end of the range (exclusive).
+     * @return  The long.
+     */
+    public static long parseLong(CharSequence input, int start, int end) {
+        boolean negative = input.charAt(start) == '-';
+        if(negative || input.charAt(start) == '+') {
+            start++;
+        }
 
-        boolean value = Boolean.parseBoolean(input);
-        return !value && !input.equalsIgnoreCase("false") ? null : value;
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 - (input.charAt(i) - '0');
+        }
+        return negative ? value : -value;
     }
 
     /**
-     * Translates a possible boolean values to true or false.
+     * Checks if a range of the input is a double.
+     * <p>
+     *     That is an optional sign followed by {@code NaN}, {@code Infinity},
+     *     or decimal digits with an optional fraction and exponent.
+     * </p>
      *
-     * @param input The boolean input.
-     * @return  The translated boolean.
+     * @param input  The input.
+     * @param start  The start of the range (inclusive).
+     * @param end  The end of the range (exclusive).
+     * @return  If the range is a double.
      */
-    private static String translateBoolean(String input) {
-        return translateTrueBoolean(translateFalseBoolean(input));
+    public static boolean isDouble(CharSequence input, int start, int end) {
+        int i = start;
+        if(i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+            i++;
+        }
+        if(regionEquals(input, i, end, "NaN") || regionEquals(input, i, end, "Infinity")) {
+            return true;
+        }
+
+        int digits = 0;
+        while (i < end && isDigit(input.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if(i < end && input.charAt(i) == '.') {
+            i++;
+            while (i < end && isDigit(input.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if(digits == 0) {
+            return false;
+        }
+
+        if(i < end && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+            i++;
+            if(i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            while (i < end && isDigit(input.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+            if(exponentDigits == 0) {
+                return false;
+            }
+        }
+        return i == end;
     }
 
     /**
-     * Translates a possible false boolean value.
+     * Parses a range of the input that {@link #isDouble(CharSequence, int, int)}.
+     * <p>
+     *     Up to 15 significant digits with a small exponent are exact in a double, those are computed directly.
+     *     Anything else goes through {@link Double#parseDouble(String)} to be rounded correctly.
+     * </p>
      *
-     * @param input  The false input.
-     * @return  The translated boolean.
+     * @param input  The input.
+     * @param start  The start of the range (inclusive).
+     * @param end  The end of the range (exclusive).
+     * @return  The double.
      */
-    private static String translateFalseBoolean(String input) {
-        input = input.toLowerCase();
-        return input.equals("off") || input.equals("no") || input.equals("false") ? "false" : input;
+    public static double parseDouble(CharSequence input, int start, int end) {
+        int i = start;
+        boolean negative = input.charAt(i) == '-';
+        if(negative || input.charAt(i) == '+') {
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            char c = input.charAt(i);
+            if(c == '.') {
+                fraction = true;
+                continue;
+            }
+            if(!isDigit(c)) {
+                break;
+            }
+            if(mantissa == 0 && c == '0') {
+                if(fraction) {
+                    scale--;
+                }
+                continue;
+            }
+            if(++digits > 15) {
+                return Double.parseDouble(input.subSequence(start, end).toString());
+            }
+            mantissa = mantissa * 10 + (c - '0');
+            if(fraction) {
+                scale--;
+            }
+        }
+
+        if(i < end) {
+            if(input.charAt(i) == 'e' || input.charAt(i) == 'E') {
+                i++;
+                boolean negativeExponent = input.charAt(i) == '-';
+                if(negativeExponent || input.charAt(i) == '+') {
+                    i++;
+                }
+                int exponent = 0;
+                for (; i < end && exponent < 1000; i++) {
+                    exponent = exponent * 10 + (input.charAt(i) - '0');
+                }
+                scale += negativeExponent ? -exponent : exponent;
+            }else {
+                return Double.parseDouble(input.subSequence(start, end).toString());
+            }
+        }
+
+        double value;
+        if(mantissa == 0) {
+            value = 0;
+        }else if(scale >= 0 && scale < POWERS_OF_TEN.length) {
+            value = mantissa * POWERS_OF_TEN[scale];
+        }else if(scale < 0 && -scale < POWERS_OF_TEN.length) {
+            value = mantissa / POWERS_OF_TEN[-scale];
+        }else {
+            return Double.parseDouble(input.subSequence(start, end).toString());
+        }
+        return negative ? -value : value;
     }
 
     /**
-     * Translates a possible true boolean.
+     * Parses a range of the input to a boolean, ignoring case.
+     * <p>
+     *     {@code true}, {@code yes} and {@code on} are true, {@code false}, {@code no} and {@code off} are false.
+     * </p>
      *
-     * @param input  The true input.
-     * @return  The translated boolean.
+     * @param input  The input.
+     * @param start  The start of the range (inclusive).
+     * @param end  The end of the range (exclusive).
+     * @return  {@code 1} for true, {@code 0} for false or {@link #NOT_A_BOOLEAN}.
      */
-    private static String translateTrueBoolean(String input) {
-        input = input.toLowerCase();
-        return input.equals("on") || input.equals("yes") || input.equals("true") ? "true" : input;
+    public static int parseBoolean(CharSequence input, int start, int end) {
+        int length = end - start;
+        if(length >= BOOLEAN_WORDS.length) {
+            return NOT_A_BOOLEAN;
+        }
+
+        String[] words = BOOLEAN_WORDS[length];
+        for (int word = 0; word < words.length; word++) {
+            if(regionEqualsIgnoreCase(input, start, words[word])) {
+                return BOOLEAN_VALUES[length][word] ? 1 : 0;
+            }
+        }
+        return NOT_A_BOOLEAN;
     }
 
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Checks if a range of the input is exactly {@code text}.
+     *
+     * @param input  The input.
+     * @param start  The start of the range (inclusive).
+     * @param end  The end of the range (exclusive).
+     * @param text  The text.
+     * @return  If the range is the text.
+     */
+    private static boolean regionEquals(CharSequence input, int start, int end, String text) {
+        if(end - start != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if(input.charAt(start + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the input at {@code start} is {@code word}, ignoring case.
+     *
+     * @param input  The input.
+     * @param start  The start.
+     * @param word  The lower case word.
+     * @return  If the input is the word.
+     */
+    private static boolean regionEqualsIgnoreCase(CharSequence input, int start, String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if(Character.toLowerCase(input.charAt(start + i)) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.context.ArgumentHandle;
+import me.hippo.api.lumos.context.CommandContext;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class ArgumentHandleTest {
+
+    private static final ArgumentHandle USER = ArgumentHandle.of("user");
+
+    private static final ArgumentHandle AMOUNT = ArgumentHandle.of("Amount");
+
+    private static final ArgumentHandle VALUE = ArgumentHandle.of("value");
+
+    private final List<Object> values = new ArrayList<>();
+
+    @Test
+    public void getsArgumentsLikeNames() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.register(label("give").then(argument("user", string()).then(argument("amount", number()).executes(commandContext -> {
+            values.add(commandContext.getString(USER));
+            values.add(commandContext.getInt(AMOUNT));
+            values.add(commandContext.getInt("AMOUNT"));
+        }))));
+        commandDispatcher.register(label("ban").then(argument("user", string()).executes(commandContext -> values.add(commandContext.getString(USER)))));
+        commandDispatcher.register(label("pay").then(argument("amount", number()).then(argument("user", string()).executes(commandContext -> {
+            values.add(commandContext.getString(USER));
+            values.add(commandContext.getInt(AMOUNT));
+        }))));
+
+        commandDispatcher.execute("give hippo 5");
+        commandDispatcher.execute("pay 7 asyc");
+        commandDispatcher.execute("ban hippo");
+        commandDispatcher.execute("give asyc 9");
+        assertEquals(Arrays.<Object>asList("hippo", 5, 5, "asyc", 7, "hippo", "asyc", 9, 9), values);
+    }
+
+    @Test
+    public void picksTheLaterOfTwoArgumentsWithTheSameName() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.register(label("set").then(argument("value", string()).then(argument("VALUE", number()).executes(commandContext -> {
+            values.add(commandContext.get(VALUE).getValue());
+            values.add(commandContext.get("value").getValue());
+        }))));
+
+        commandDispatcher.execute("set first 2");
+        assertEquals(Arrays.<Object>asList(2.0, 2.0), values);
+    }
+
+    @Test
+    public void throwsForMissingArguments() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.register(label("ban").then(argument("user", string()).executes(commandContext -> values.add(get(commandContext, AMOUNT)))));
+        commandDispatcher.register(label("gc").executes(commandContext -> values.add(get(commandContext, USER))));
+
+        commandDispatcher.execute("ban hippo");
+        commandDispatcher.execute("gc");
+        assertEquals(Arrays.<Object>asList("Amount", "user"), values);
+    }
+
+    private static Object get(CommandContext commandContext, ArgumentHandle handle) {
+        try {
+            commandContext.get(handle);
+            return null;
+        }catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().endsWith(handle.getName()));
+            return handle.getName();
+        }
+    }
+}
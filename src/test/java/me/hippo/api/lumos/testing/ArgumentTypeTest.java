@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.argument.ArgumentType;
+import me.hippo.api.lumos.context.ArgumentValueWrapper;
+import me.hippo.api.lumos.reader.StringReader;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class ArgumentTypeTest {
+
+    private final List<Object> values = new ArrayList<>();
+
+    private final CommandDispatcher commandDispatcher = new CommandDispatcher();
+
+    public ArgumentTypeTest() {
+        commandDispatcher.register(label("paint")
+                .then(argument("color", new ColorArgumentType()).executes(commandContext -> {
+                    values.add(commandContext.get("color").getValue());
+                    values.add(commandContext.get("color").getValueString());
+                }))
+                .then(argument("hex", new HexArgumentType()).executes(commandContext -> values.add(commandContext.getInt("hex"))))
+                .then(argument("prefix", new PrefixArgumentType()).executes(commandContext -> values.add("prefix")))
+                .then(argument("other", string()).executes(commandContext -> values.add("other " + commandContext.getString("other")))));
+    }
+
+    @Test
+    public void parsesThroughTheDefaultRead() throws Exception {
+        commandDispatcher.execute("paint red");
+        commandDispatcher.execute("paint BLUE");
+        assertEquals(Arrays.<Object>asList(Color.RED, "red", Color.BLUE, "BLUE"), values);
+    }
+
+    @Test
+    public void readsPrimitivesWithoutParse() throws Exception {
+        commandDispatcher.execute("paint #ff");
+        assertEquals(Arrays.<Object>asList(255), values);
+    }
+
+    @Test
+    public void triesTheNextArgumentWhenTheTypeDoesNotFit() throws Exception {
+        commandDispatcher.execute("paint purple");
+        commandDispatcher.execute("paint #zz");
+        commandDispatcher.execute("paint redder");
+        assertEquals(Arrays.<Object>asList("other purple", "other #zz", "other redder"), values);
+    }
+
+    @Test
+    public void listsSuggestions() {
+        assertEquals(Arrays.asList("red"), commandDispatcher.getSuggestions("paint r"));
+        assertEquals(Arrays.asList("green"), commandDispatcher.getSuggestions("paint G"));
+        assertEquals(Arrays.asList("red", "green", "blue", "#"), commandDispatcher.getSuggestions("paint "));
+        assertEquals(Arrays.asList("red", "green"), commandDispatcher.getSuggestions("paint ", 2));
+    }
+
+    private enum Color {
+        RED, GREEN, BLUE
+    }
+
+    /**
+     * Only implements {@link #parse(StringReader)}, leaving {@link #read(StringReader)} to the default.
+     */
+    private static final class ColorArgumentType implements ArgumentType<Color> {
+
+        @Override
+        public Color parse(StringReader reader) {
+            String token = reader.readToken().toUpperCase(Locale.ROOT);
+            for (Color color : Color.values()) {
+                if(color.name().equals(token)) {
+                    return color;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void listSuggestions(String prefix, List<String> suggestions) {
+            for (Color color : Color.values()) {
+                String name = color.name().toLowerCase(Locale.ROOT);
+                if(name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                    suggestions.add(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Overrides {@link #read(StringReader)} to hand a primitive over.
+     */
+    private static final class HexArgumentType implements ArgumentType<Long> {
+
+        @Override
+        public Long parse(StringReader reader) {
+            ArgumentValueWrapper value = read(reader);
+            return value == null ? null : value.longValue();
+        }
+
+        @Override
+        public ArgumentValueWrapper read(StringReader reader) {
+            int start = reader.getCursor();
+            if(reader.peek() != '#') {
+                return null;
+            }
+            int end = reader.skipToken();
+            try {
+                return ArgumentValueWrapper.ofLong(Long.parseLong(reader.substring(start + 1, end), 16), reader.getInput(), start, end);
+            }catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void listSuggestions(String prefix, List<String> suggestions) {
+            if(prefix.isEmpty()) {
+                suggestions.add("#");
+            }
+        }
+    }
+
+    /**
+     * Claims to parse anything but stops in the middle of the token, which the parser has to turn down.
+     */
+    private static final class PrefixArgumentType implements ArgumentType<String> {
+
+        @Override
+        public String parse(StringReader reader) {
+            reader.setCursor(reader.getCursor() + 1);
+            return "prefix";
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.context.ArgumentHandle;
+import me.hippo.api.lumos.exception.CommandNotFoundException;
+import me.hippo.api.lumos.exception.CommandRejectedException;
+import me.hippo.api.lumos.source.CommandSource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class AsyncTest {
+
+    @Test
+    public void keepsOrderPerSource() throws Exception {
+        CommandDispatcher commandDispatcher = CommandDispatcher.builder().executor(Executors.newFixedThreadPool(4)).build();
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        ArgumentHandle index = ArgumentHandle.of("index");
+        commandDispatcher.register(
+                label("log")
+                .then(argument("source", string()).then(argument("index", number()).executes(commandContext -> {
+                    if(commandContext.getInt(index) % 7 == 0) {
+                        sleep();
+                    }
+                    executed.add(commandContext.getString("source") + " " + commandContext.getInt(index));
+                })))
+        );
+
+        CommandSource first = () -> "first";
+        CommandSource second = () -> "second";
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(commandDispatcher.executeAsync(first, "log first " + i));
+            futures.add(commandDispatcher.executeAsync(second, "log second " + i));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+        for (String source : new String[] {"first", "second"}) {
+            int expected = 0;
+            for (String entry : executed) {
+                if(entry.startsWith(source)) {
+                    assertEquals(source + " " + expected++, entry);
+                }
+            }
+            assertEquals(50, expected);
+        }
+    }
+
+    @Test
+    public void completesExceptionally() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        CompletableFuture<Void> future = commandDispatcher.executeAsync(CommandSource.CONSOLE, "missing");
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail();
+        }catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CommandNotFoundException);
+        }
+    }
+
+    @Test
+    public void closeRunsSubmittedCommandsFirst() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        AtomicInteger executed = new AtomicInteger();
+        commandDispatcher.register(label("work").executes(commandContext -> {
+            sleep();
+            executed.incrementAndGet();
+        }));
+
+        CommandSource source = () -> "source";
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(commandDispatcher.executeAsync(source, "work"));
+        }
+        commandDispatcher.close();
+        assertTrue(commandDispatcher.isShutdown());
+        assertEquals(10, executed.get());
+        assertEquals(0, commandDispatcher.getPendingCount());
+        for (CompletableFuture<Void> future : futures) {
+            assertTrue(future.isDone() && !future.isCompletedExceptionally());
+        }
+
+        try {
+            commandDispatcher.executeAsync(source, "work").get(10, TimeUnit.SECONDS);
+            fail();
+        }catch (ExecutionException e) {
+            assertSame(CommandRejectedException.SHUT_DOWN, e.getCause());
+        }
+        commandDispatcher.execute("work");
+        assertEquals(11, executed.get());
+    }
+
+    @Test
+    public void closeWithoutAsyncCommands() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.close();
+        commandDispatcher.close();
+        try {
+            commandDispatcher.executeAsync("missing").get(10, TimeUnit.SECONDS);
+            fail();
+        }catch (ExecutionException e) {
+            assertSame(CommandRejectedException.SHUT_DOWN, e.getCause());
+        }
+    }
+
+    @Test
+    public void leavesGivenExecutorRunning() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CommandDispatcher commandDispatcher = CommandDispatcher.builder().executor(executor).build();
+            commandDispatcher.register(label("ping").executes(commandContext -> {}));
+            commandDispatcher.executeAsync("ping").get(10, TimeUnit.SECONDS);
+            commandDispatcher.close();
+            assertFalse(executor.isShutdown());
+        }finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(2);
+        }catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.argument.ArgumentType;
+import me.hippo.api.lumos.batch.BatchResult;
+import me.hippo.api.lumos.exception.CommandNotFoundException;
+import me.hippo.api.lumos.exception.CommandSyntaxException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class BatchTest {
+
+    private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+    private final CommandDispatcher commandDispatcher = new CommandDispatcher();
+
+    public BatchTest() {
+        commandDispatcher.register(label("say").then(argument("message", string()).executes(commandContext -> executed.add(commandContext.getString("message")))));
+        commandDispatcher.register(label("fail").executes(commandContext -> {
+            throw new IllegalStateException("failed");
+        }));
+        commandDispatcher.register(label("usage").then(label("only").executes(commandContext -> {})));
+        commandDispatcher.register(label("broken").then(argument("value", (ArgumentType<String>) reader -> {
+            throw new IllegalStateException("broken type");
+        }).executes(commandContext -> {})));
+    }
+
+    @Test
+    public void reportsEveryFailureInItsOwnSlot() {
+        BatchResult batchResult = commandDispatcher.executeAll(Arrays.asList("say a", "fail", "say b", "missing", "usage", "say c"));
+
+        assertEquals(6, batchResult.size());
+        assertEquals(3, batchResult.getSuccessCount());
+        assertEquals(3, batchResult.getFailureCount());
+        assertTrue(batchResult.isSuccess(0));
+        assertTrue(batchResult.getFailure(1) instanceof IllegalStateException);
+        assertTrue(batchResult.isSuccess(2));
+        assertTrue(batchResult.getFailure(3) instanceof CommandNotFoundException);
+        assertTrue(batchResult.getFailure(4) instanceof CommandSyntaxException);
+        assertNull(batchResult.getFailure(5));
+        assertEquals(Arrays.asList("a", "b", "c"), executed);
+    }
+
+    @Test
+    public void keepsGoingWhenAnArgumentTypeThrows() {
+        BatchResult batchResult = commandDispatcher.executeAll(Arrays.asList("say a", "broken value", "say b"));
+
+        assertEquals(2, batchResult.getSuccessCount());
+        assertTrue(batchResult.getFailure(1) instanceof IllegalStateException);
+        assertEquals(Arrays.asList("a", "b"), executed);
+    }
+
+    @Test
+    public void executesOrderedBatchesInInputOrder() {
+        List<String> inputs = new ArrayList<>();
+        List<String> messages = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            inputs.add(i % 50 == 25 ? "fail" : "say " + i);
+            if(i % 50 != 25) {
+                messages.add(String.valueOf(i));
+            }
+        }
+
+        BatchResult batchResult = commandDispatcher.executeAll(inputs, true);
+        assertEquals(10, batchResult.getFailureCount());
+        assertEquals(messages, executed);
+    }
+
+    @Test
+    public void executesStreamsLikeLists() {
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            inputs.add(i % 7 == 0 ? "fail" : i % 11 == 0 ? "missing " + i : "say " + i);
+        }
+
+        for (boolean ordered : new boolean[] {true, false}) {
+            executed.clear();
+            BatchResult fromList = commandDispatcher.executeAll(inputs, ordered);
+            List<String> listExecuted = new ArrayList<>(executed);
+            executed.clear();
+            BatchResult fromStream = commandDispatcher.executeAll(inputs.stream(), ordered);
+
+            assertEquals(fromList.size(), fromStream.size());
+            for (int line = 0; line < inputs.size(); line++) {
+                Exception expected = fromList.getFailure(line);
+                Exception actual = fromStream.getFailure(line);
+                assertEquals(inputs.get(line), expected == null ? null : expected.getClass(), actual == null ? null : actual.getClass());
+            }
+            if(ordered) {
+                assertEquals(listExecuted, executed);
+            }else {
+                List<String> sorted = new ArrayList<>(executed);
+                Collections.sort(sorted);
+                Collections.sort(listExecuted);
+                assertEquals(listExecuted, sorted);
+            }
+        }
+    }
+}
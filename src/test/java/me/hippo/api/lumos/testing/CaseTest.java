@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.node.CommandNode;
+import me.hippo.api.lumos.node.label.LabelCommandNode;
+import me.hippo.api.lumos.util.NodeUtil;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class CaseTest {
+
+    @Test
+    public void foldsRangesLikeLabels() {
+        for (String input : new String[] {"hack tool", "Hack Tool", "  HACK \t TOOL  "}) {
+            assertEquals("hack tool", NodeUtil.fold(input));
+            assertEquals(0, NodeUtil.compare("hack tool", input, 0, input.length()));
+        }
+        assertTrue(NodeUtil.compare("hack", "hack tool", 0, 9) < 0);
+        assertTrue(NodeUtil.compare("hack tool", "hack", 0, 4) > 0);
+        assertEquals(0, NodeUtil.comparePrefix("hack tool", "HACK ", 0, 5));
+        assertTrue(NodeUtil.comparePrefix("hack", "HACK ", 0, 5) < 0);
+        String folded = "hack tool";
+        assertSame(folded, NodeUtil.fold(folded));
+    }
+
+    @Test
+    public void findsChildrenIgnoringCase() {
+        for (int width : new int[] {3, 30}) {
+            CommandNode node = new LabelCommandNode("node");
+            for (int i = 0; i < width; i++) {
+                node.addChild(new LabelCommandNode("Child" + i));
+            }
+            CommandNode replacement = new LabelCommandNode("CHILD1");
+            node.addChild(replacement);
+
+            assertEquals(width, node.getChildren().size());
+            assertSame(replacement, node.getChild("child1"));
+            assertEquals("Child2", node.getChild("cHiLd2").getName());
+            assertNull(node.getChild("child"));
+        }
+    }
+
+    @Test
+    public void matchesTheSameAtEveryLevel() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        commandDispatcher.register(label("Hack Tool").then(label("IP").then(label("Ping").then(argument("Address", string())
+                .executes(commandContext -> executed.add(commandContext.getString("address")))))));
+
+        commandDispatcher.execute("hack tool ip ping hippo.com");
+        commandDispatcher.execute("HACK   TOOL Ip PING Hippo.com");
+        assertEquals(Arrays.asList("hippo.com", "Hippo.com"), executed);
+        assertEquals(Arrays.asList("Ping"), commandDispatcher.getSuggestions("hACK tool IP p"));
+        assertEquals(Arrays.asList("Hack Tool"), commandDispatcher.getSuggestions("HACK  "));
+        assertNotNull(commandDispatcher.getCommandTree().getRoot("hack  TOOL"));
+        assertNull(commandDispatcher.getCommandTree().getRoot("hack"));
+    }
+}
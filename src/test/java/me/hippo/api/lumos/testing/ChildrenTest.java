@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.node.CommandNode;
+import me.hippo.api.lumos.node.label.LabelCommandNode;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class ChildrenTest {
+
+    @Test
+    public void keepsOrderAtEveryWidth() {
+        for (int width : new int[] {0, 1, 3, 8, 9, 100}) {
+            CommandNode node = new LabelCommandNode("node");
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < width; i++) {
+                node.addChild(new LabelCommandNode("child" + i));
+                names.add("child" + i);
+            }
+
+            List<String> children = new ArrayList<>();
+            for (CommandNode child : node.getChildren()) {
+                children.add(child.getName());
+            }
+            assertEquals(names, children);
+            for (String name : names) {
+                assertEquals(name, node.getChild(name).getName());
+            }
+            assertNull(node.getChild("missing"));
+        }
+    }
+
+    @Test
+    public void replacesChildrenWithTheSameName() {
+        for (int width : new int[] {2, 20}) {
+            CommandNode node = new LabelCommandNode("node");
+            for (int i = 0; i < width; i++) {
+                node.addChild(new LabelCommandNode("child" + i));
+            }
+            CommandNode replacement = new LabelCommandNode("child1");
+            node.addChild(replacement);
+
+            assertEquals(width, node.getChildren().size());
+            assertSame(replacement, node.getChild("child1"));
+            assertSame(replacement, new ArrayList<>(node.getChildren()).get(1));
+        }
+    }
+
+    @Test
+    public void addsChildrenAtOnce() {
+        for (int width : new int[] {3, 8, 9, 5000}) {
+            CommandNode node = new LabelCommandNode("node");
+            node.addChild(new LabelCommandNode("child0"));
+            List<CommandNode> added = new ArrayList<>();
+            for (int i = 0; i < width; i++) {
+                added.add(new LabelCommandNode("child" + i));
+            }
+            node.addChildren(added);
+
+            assertEquals(added, new ArrayList<>(node.getChildren()));
+            assertSame(added.get(width - 1), node.getChild("CHILD" + (width - 1)));
+            assertNull(node.getChild("missing"));
+        }
+    }
+
+    @Test
+    public void materializesIntoEveryWidth() {
+        CommandNode node = new LabelCommandNode("node");
+        node.addChild(new LabelCommandNode("eager"));
+        List<CommandNode> lazy = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            lazy.add(new LabelCommandNode("lazy" + i));
+        }
+        node.setLazyChildren(() -> lazy);
+
+        assertEquals(1, node.getChildren().size());
+        node.materialize();
+        assertEquals(11, node.getChildren().size());
+        assertNotNull(node.getChild("lazy9"));
+        assertEquals(Collections.emptyList(), new ArrayList<>(new LabelCommandNode("leaf").getChildren()));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.context.ParseResults;
+import me.hippo.api.lumos.exception.CommandSyntaxException;
+import me.hippo.api.lumos.tree.CommandTree;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class CompileTest {
+
+    private final List<String> executed = new ArrayList<>();
+
+    @Test
+    public void triesGreedyArgumentsLastAndPlainStringsBeforeThem() throws Exception {
+        CommandTree commandTree = CommandTree.compile(Arrays.asList(label("say")
+                .then(argument("all", greedy()).executes(commandContext -> executed.add("all " + commandContext.getString("all"))))
+                .then(argument("word", string()).executes(commandContext -> executed.add("word " + commandContext.getString("word"))))
+                .then(argument("quoted", quoted()).executes(commandContext -> executed.add("quoted " + commandContext.getString("quoted"))))
+                .then(argument("amount", number()).executes(commandContext -> executed.add("amount " + commandContext.getInt("amount"))))
+                .build()));
+
+        execute(commandTree, "say 5");
+        execute(commandTree, "say \"a b\"");
+        execute(commandTree, "say hello");
+        assertEquals(Arrays.asList("amount 5", "quoted a b", "word hello"), executed);
+
+        try {
+            commandTree.parse("say hello there");
+            fail("The plain string comes before the greedy string");
+        }catch (CommandSyntaxException expected) {
+        }
+    }
+
+    @Test
+    public void numbersSlotsAlongThePath() throws Exception {
+        CommandTree commandTree = CommandTree.compile(Arrays.asList(
+                label("give").then(argument("user", string())
+                        .then(label("item").then(argument("amount", number()).then(argument("reason", greedy()).executes(commandContext -> {})))))
+                        .build(),
+                label("pay").then(argument("amount", number()).executes(commandContext -> {})).build()));
+
+        ParseResults parseResults = commandTree.parse("give hippo item 5 for being nice");
+        int reason = parseResults.getNodeId();
+        int amount = commandTree.getParent(reason);
+        int item = commandTree.getParent(amount);
+        int user = commandTree.getParent(item);
+        int give = commandTree.getParent(user);
+
+        assertEquals(2, commandTree.getSlot(reason));
+        assertEquals(1, commandTree.getSlot(amount));
+        assertEquals(-1, commandTree.getSlot(item));
+        assertEquals(0, commandTree.getSlot(user));
+        assertEquals(-1, commandTree.getSlot(give));
+        assertEquals(CommandTree.ROOT, commandTree.getParent(give));
+        assertEquals("give <user> item <amount> <reason>", commandTree.getPath(reason));
+
+        assertEquals("hippo", parseResults.getContext().getString("user"));
+        assertEquals(5, parseResults.getContext().getInt("amount"));
+        assertEquals("for being nice", parseResults.getContext().getString("reason"));
+        assertEquals(Arrays.asList("amount", "reason", "user"), new ArrayList<>(parseResults.getContext().getArguments().keySet()));
+
+        ParseResults pay = commandTree.parse("pay 3");
+        assertEquals(0, commandTree.getSlot(pay.getNodeId()));
+        assertEquals(3, pay.getContext().getInt("amount"));
+    }
+
+    private void execute(CommandTree commandTree, String input) throws Exception {
+        ParseResults parseResults = commandTree.parse(input);
+        parseResults.getCommand().execute(parseResults.getContext());
+    }
+}
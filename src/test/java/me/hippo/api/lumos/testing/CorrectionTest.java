@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.builder.CommandBuilder;
+import me.hippo.api.lumos.exception.CommandException;
+import me.hippo.api.lumos.exception.CommandNotFoundException;
+import me.hippo.api.lumos.exception.CommandSyntaxException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class CorrectionTest {
+
+    @Test
+    public void correctsRootsAndChildren() {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.register(label("hack tool").then(label("ping").executes(commandContext -> {})).then(label("proxy").executes(commandContext -> {})));
+        commandDispatcher.register(label("hack").executes(commandContext -> {}));
+        commandDispatcher.register(label("help").executes(commandContext -> {}));
+        List<CommandBuilder> commands = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            commands.add(label("command" + i).executes(commandContext -> {}));
+        }
+        commandDispatcher.registerAll(commands);
+
+        CommandException notFound = fail(commandDispatcher, "hakc tool ping");
+        assertTrue(notFound instanceof CommandNotFoundException);
+        assertEquals(Arrays.asList("hack", "hack tool"), notFound.getCorrections());
+
+        CommandException syntax = fail(commandDispatcher, "hack tool pnig");
+        assertTrue(syntax instanceof CommandSyntaxException);
+        assertEquals(Collections.singletonList("ping"), syntax.getCorrections());
+
+        assertEquals(Collections.emptyList(), fail(commandDispatcher, "zzzzzzzzzzzz").getCorrections());
+    }
+
+    private static CommandException fail(CommandDispatcher commandDispatcher, String input) {
+        try {
+            commandDispatcher.execute(input);
+            throw new AssertionError(input);
+        }catch (CommandException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.exception.CommandSyntaxException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class LabelTest {
+
+    private final List<String> executed = new ArrayList<>();
+
+    private final CommandDispatcher commandDispatcher = new CommandDispatcher();
+
+    public LabelTest() {
+        commandDispatcher.register(label("hack").then(argument("user", string())
+                .executes(commandContext -> executed.add("hack " + commandContext.getString("user")))
+                .then(argument("action", string()).executes(commandContext -> executed.add("hack " + commandContext.getString("user") + " " + commandContext.getString("action"))))));
+        commandDispatcher.register(label("hack tool").executes(commandContext -> executed.add("hack tool"))
+                .then(label("ip").executes(commandContext -> executed.add("hack tool ip"))));
+        commandDispatcher.register(label("hack tool ip ping").executes(commandContext -> executed.add("hack tool ip ping")));
+        commandDispatcher.register(label("run")
+                .then(label("hack tool").executes(commandContext -> executed.add("run hack tool")))
+                .then(argument("word", string()).executes(commandContext -> executed.add("run " + commandContext.getString("word")))
+                        .then(argument("rest", string()).executes(commandContext -> executed.add("run " + commandContext.getString("word") + " " + commandContext.getString("rest"))))));
+    }
+
+    @Test
+    public void matchesTheLongestLabel() throws Exception {
+        commandDispatcher.execute("hack tool ip");
+        commandDispatcher.execute("hack tool");
+        commandDispatcher.execute("hack tool ip ping");
+        commandDispatcher.execute("hack hippo");
+        assertEquals(Arrays.asList("hack tool ip", "hack tool", "hack tool ip ping", "hack hippo"), executed);
+    }
+
+    @Test
+    public void fallsBackToShorterLabels() throws Exception {
+        commandDispatcher.register(label("deep end now").executes(commandContext -> executed.add("deep end now")));
+        commandDispatcher.register(label("deep").then(argument("word", string()).then(argument("rest", string())
+                .executes(commandContext -> executed.add("deep " + commandContext.getString("word") + " " + commandContext.getString("rest"))))));
+
+        commandDispatcher.execute("hack toolbox");
+        commandDispatcher.execute("hack tool ip");
+        commandDispatcher.execute("deep end later");
+        commandDispatcher.execute("deep end now");
+        assertEquals(Arrays.asList("hack toolbox", "hack tool ip", "deep end later", "deep end now"), executed);
+
+        try {
+            commandDispatcher.execute("hack tool ip pong");
+            fail("The longest label is kept even if the rest doesn't fit it");
+        }catch (CommandSyntaxException expected) {
+        }
+    }
+
+    @Test
+    public void matchesMixedCase() throws Exception {
+        commandDispatcher.execute("HaCk TOOL Ip");
+        commandDispatcher.execute("HACK  tOOl");
+        commandDispatcher.execute("Hack Tool IP PING");
+        commandDispatcher.execute("RUN Hack\tTool");
+        assertEquals(Arrays.asList("hack tool ip", "hack tool", "hack tool ip ping", "run hack tool"), executed);
+    }
+
+    @Test
+    public void leavesTheCursorWhereItWasWithoutAMatch() throws Exception {
+        commandDispatcher.execute("run hack toolbox");
+        commandDispatcher.execute("run hack");
+        commandDispatcher.execute("run tool hack");
+        commandDispatcher.execute("run hack tool");
+        assertEquals(Arrays.asList("run hack toolbox", "run hack", "run tool hack", "run hack tool"), executed);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class LazyTest {
+
+    @Test
+    public void buildsOnFirstUse() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        AtomicInteger built = new AtomicInteger();
+        List<String> executed = new ArrayList<>();
+        commandDispatcher.register(label("region").executes(commandContext -> executed.add("region"))
+                .thenLazily(() -> {
+                    built.incrementAndGet();
+                    return Arrays.asList(
+                            label("claim").then(argument("name", string()).executes(commandContext -> executed.add("claim " + commandContext.getString("name")))),
+                            label("list").executes(commandContext -> executed.add("list"))
+                    );
+                }));
+        commandDispatcher.register(label("help").executes(commandContext -> executed.add("help")));
+
+        commandDispatcher.execute("help");
+        commandDispatcher.execute("region");
+        assertEquals(Arrays.asList("region"), commandDispatcher.getSuggestions("reg"));
+        assertEquals(0, built.get());
+
+        commandDispatcher.execute("region claim spawn");
+        commandDispatcher.execute("region list");
+        assertEquals(Arrays.asList("help", "region", "claim spawn", "list"), executed);
+        assertEquals(1, built.get());
+        assertFalse(commandDispatcher.getCommandTree().getRoot("region").isLazy());
+    }
+
+    @Test
+    public void suggestionsMaterialize() {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        AtomicInteger built = new AtomicInteger();
+        commandDispatcher.register(label("region").thenLazily(() -> {
+            built.incrementAndGet();
+            return Arrays.asList(label("claim").executes(commandContext -> {}), label("list").executes(commandContext -> {}));
+        }));
+
+        assertEquals(Arrays.asList("claim", "list"), commandDispatcher.getSuggestions("region "));
+        assertEquals(Arrays.asList("list"), commandDispatcher.getSuggestions("region l"));
+        assertEquals(1, built.get());
+    }
+
+    @Test
+    public void buildsOnceUnderConcurrency() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        AtomicInteger built = new AtomicInteger();
+        AtomicInteger executed = new AtomicInteger();
+        commandDispatcher.register(label("region").thenLazily(() -> {
+            built.incrementAndGet();
+            return Collections.singletonList(label("list").executes(commandContext -> executed.incrementAndGet()));
+        }));
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                commandDispatcher.execute("region list");
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(1, built.get());
+        assertEquals(threads, executed.get());
+    }
+
+    @Test
+    public void retriesAfterFailure() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        AtomicInteger attempts = new AtomicInteger();
+        commandDispatcher.register(label("region").thenLazily(() -> {
+            if(attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("Not ready");
+            }
+            return Collections.singletonList(label("list").executes(commandContext -> {}));
+        }));
+
+        try {
+            commandDispatcher.execute("region list");
+            fail();
+        }catch (IllegalStateException expected) {
+        }
+        assertTrue(commandDispatcher.getCommandTree().getRoot("region").isLazy());
+        commandDispatcher.execute("region list");
+        assertEquals(2, attempts.get());
+    }
+}
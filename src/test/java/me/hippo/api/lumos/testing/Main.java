@@ -35,9 +35,10 @@ public final class Main {
     @Test
     public void test() {
         Random random = new Random();
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
         try {
 
-            CommandDispatcher.register(
+            commandDispatcher.register(
                     label("hack tool")
                     .then(
                             argument("user", string())
@@ -73,15 +74,15 @@ public final class Main {
                     })
             );
 
-            CommandDispatcher.execute("hack tool");
-            CommandDispatcher.execute("hack tool Asyc");
-            CommandDispatcher.execute("hack tool ip ping hippo.com");
-            CommandDispatcher.execute("hack tool ip proxy hippo.com");
-            CommandDispatcher.execute("hack tool gc");
+            commandDispatcher.execute("hack tool");
+            commandDispatcher.execute("hack tool Asyc");
+            commandDispatcher.execute("hack tool ip ping hippo.com");
+            commandDispatcher.execute("hack tool ip proxy hippo.com");
+            commandDispatcher.execute("hack tool gc");
 
 
 
-            for (String suggestion : CommandDispatcher.getSuggestions("hack tool i")) {
+            for (String suggestion : commandDispatcher.getSuggestions("hack tool i")) {
                 System.out.println(suggestion); //prints "ip"
             }
         }catch (CommandException e) {
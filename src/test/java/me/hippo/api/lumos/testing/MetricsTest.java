@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.exception.CommandException;
+import me.hippo.api.lumos.metrics.CommandMetrics;
+import me.hippo.api.lumos.metrics.CommandMetricsBean;
+import me.hippo.api.lumos.metrics.CommandStats;
+import me.hippo.api.lumos.metrics.LatencyHistogram;
+import me.hippo.api.lumos.metrics.MetricsSnapshot;
+import me.hippo.api.lumos.tree.CommandTree;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class MetricsTest {
+
+    @Test
+    public void countsPerPath() throws Exception {
+        CommandDispatcher commandDispatcher = CommandDispatcher.builder().metrics(CommandMetrics.recording()).build();
+        commandDispatcher.register(
+                label("hack tool")
+                .then(label("gc").executes(commandContext -> {}))
+                .then(argument("user", string()).executes(commandContext -> {
+                    throw new IllegalStateException(commandContext.getString("user"));
+                }))
+        );
+
+        for (int i = 0; i < 3; i++) {
+            commandDispatcher.execute("hack tool gc");
+        }
+        try {
+            commandDispatcher.execute("hack tool Asyc");
+            fail();
+        }catch (IllegalStateException ignored) {}
+        fails(commandDispatcher, "missing");
+        fails(commandDispatcher, "hack tool gc now");
+        fails(commandDispatcher, "hack tool");
+
+        MetricsSnapshot snapshot = commandDispatcher.getMetrics().snapshot();
+        assertEquals(1, snapshot.getNotFoundCount());
+        assertEquals(2, snapshot.getSyntaxErrorCount());
+        assertEquals(1, snapshot.getSyntaxErrorLatency().getCount());
+        assertTrue(snapshot.getNotFoundLatency().getMax() > 0);
+        assertTrue(snapshot.getSyntaxErrorLatency().getMax() > 0);
+
+        CommandStats gc = snapshot.getCommand("hack tool gc");
+        assertEquals(3, gc.getParseCount());
+        assertEquals(3, gc.getExecutionCount());
+        assertEquals(0, gc.getFailureCount());
+
+        CommandStats user = snapshot.getCommand("hack tool <user>");
+        assertEquals(1, user.getExecutionCount());
+        assertEquals(1.0, user.getErrorRate(), 0);
+
+        ObjectName objectName = CommandMetricsBean.register(commandDispatcher.getMetrics(), "test");
+        assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "NotFoundCount"));
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+    }
+
+    @Test
+    public void carriesPathsOverSnapshots() throws Exception {
+        CommandDispatcher commandDispatcher = CommandDispatcher.builder().metrics(CommandMetrics.recording()).build();
+        commandDispatcher.register(label("hack").then(label("gc").executes(commandContext -> {})));
+        CommandTree first = commandDispatcher.getCommandTree();
+        commandDispatcher.execute("hack gc");
+
+        commandDispatcher.register(label("hack").then(label("ip").executes(commandContext -> {})));
+        commandDispatcher.execute("hack gc");
+        commandDispatcher.execute(first.parse("hack gc"));
+        commandDispatcher.execute("hack ip");
+
+        MetricsSnapshot snapshot = commandDispatcher.getMetrics().snapshot();
+        assertEquals(2, snapshot.getCommand("hack gc").getParseCount());
+        assertEquals(3, snapshot.getCommand("hack gc").getExecutionCount());
+        assertEquals(1, snapshot.getCommand("hack ip").getExecutionCount());
+    }
+
+    @Test
+    public void percentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertEquals(50_000_000, histogram.snapshot().getValueAtPercentile(50), 50_000_000 / 16.0);
+        assertEquals(99_000_000, histogram.snapshot().getValueAtPercentile(99), 99_000_000 / 16.0);
+        assertEquals(100_000_000, histogram.snapshot().getValueAtPercentile(100));
+    }
+
+    @Test
+    public void disabledRecordsNothing() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.register(label("gc").executes(commandContext -> {}));
+        commandDispatcher.execute("gc");
+        assertTrue(commandDispatcher.getMetrics().snapshot().getCommands().isEmpty());
+    }
+
+    private static void fails(CommandDispatcher commandDispatcher, String input) {
+        try {
+            commandDispatcher.execute(input);
+            fail();
+        }catch (CommandException ignored) {}
+    }
+}
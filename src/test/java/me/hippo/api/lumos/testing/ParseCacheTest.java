@@ -0,0 +1,161 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.Command;
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.cache.EvictionPolicy;
+import me.hippo.api.lumos.cache.ParseCache;
+import me.hippo.api.lumos.context.ParseResults;
+import me.hippo.api.lumos.exception.CommandException;
+import me.hippo.api.lumos.tree.CommandTree;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class ParseCacheTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final CommandTree tree = CommandTree.compile(Collections.singletonList(
+            label("say").then(argument("message", string()).executes(commandContext -> {})).build()));
+
+    @Test
+    public void countsHitsMissesAndEvictions() throws CommandException {
+        ParseCache parseCache = new ParseCache(1, EvictionPolicy.LRU);
+        ParseResults hello = tree.parse("say hello");
+
+        assertNull(parseCache.get("say hello", tree));
+        parseCache.put("say hello", hello);
+        assertSame(hello, parseCache.get("say hello", tree));
+        assertSame(hello, parseCache.get("say hello", tree));
+        assertNull(parseCache.get("say hello", CommandTree.compile(tree.getRoots())));
+        assertEquals(2, parseCache.getHits());
+        assertEquals(2, parseCache.getMisses());
+        assertEquals(0, parseCache.getEvictions());
+
+        parseCache.put("say bye", tree.parse("say bye"));
+        assertEquals(1, parseCache.getEvictions());
+        assertEquals(1, parseCache.size());
+        assertNull(parseCache.get("say hello", tree));
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsed() throws CommandException {
+        ParseCache parseCache = fill(new ParseCache(2, EvictionPolicy.LRU, 1));
+        assertNull(parseCache.get("say b", tree));
+        assertNotNull(parseCache.get("say a", tree));
+        assertNotNull(parseCache.get("say c", tree));
+    }
+
+    @Test
+    public void evictsTheOldest() throws CommandException {
+        ParseCache parseCache = fill(new ParseCache(2, EvictionPolicy.FIFO, 1));
+        assertNull(parseCache.get("say a", tree));
+        assertNotNull(parseCache.get("say b", tree));
+        assertNotNull(parseCache.get("say c", tree));
+    }
+
+    @Test
+    public void evictsPerSegment() throws CommandException {
+        ParseCache parseCache = new ParseCache(8, EvictionPolicy.FIFO, 4);
+        List<String> sameSegment = new ArrayList<>();
+        for (int i = 0; sameSegment.size() < 3; i++) {
+            String input = "say " + i;
+            int hash = input.hashCode();
+            if(((hash ^ (hash >>> 16)) & 3) == 0) {
+                sameSegment.add(input);
+            }
+        }
+
+        for (String input : sameSegment) {
+            parseCache.put(input, tree.parse(input));
+        }
+        assertEquals(1, parseCache.getEvictions());
+        assertEquals(2, parseCache.size());
+        assertNull(parseCache.get(sameSegment.get(0), tree));
+
+        for (int i = 0; i < 100; i++) {
+            parseCache.put("say x" + i, tree.parse("say x" + i));
+            assertTrue(parseCache.size() <= 8);
+        }
+        assertEquals(8, parseCache.size());
+    }
+
+    @Test
+    public void neverHitsAcrossSnapshots() throws Exception {
+        CommandDispatcher commandDispatcher = CommandDispatcher.builder().parseCache(16, EvictionPolicy.LRU).build();
+        commandDispatcher.register(label("say").then(argument("message", string()).executes(commandContext -> {})));
+        ParseResults first = commandDispatcher.parse("say hello");
+        assertSame(first, commandDispatcher.parse("say hello"));
+
+        commandDispatcher.register(label("other").executes(commandContext -> {}));
+        assertEquals(1, commandDispatcher.getParseCache().size());
+        commandDispatcher.getCommandTree();
+        assertEquals(0, commandDispatcher.getParseCache().size());
+        ParseResults second = commandDispatcher.parse("say hello");
+        assertNotSame(first, second);
+        assertSame(commandDispatcher.getCommandTree(), second.getTree());
+
+        commandDispatcher.getParseCache().put("say hello", first);
+        assertNotSame(first, commandDispatcher.parse("say hello"));
+
+        Path snapshot = temporaryFolder.getRoot().toPath().resolve("commands.bin");
+        commandDispatcher.saveSnapshot(snapshot, 0L);
+        commandDispatcher.parse("say hello");
+        Map<String, Command> handlers = new HashMap<>();
+        handlers.put("say <message>", commandContext -> {});
+        handlers.put("other", commandContext -> {});
+        assertTrue(commandDispatcher.loadSnapshot(snapshot, 0L, handlers, Collections::emptyList));
+        assertEquals(0, commandDispatcher.getParseCache().size());
+        ParseResults loaded = commandDispatcher.parse("say hello");
+        assertSame(commandDispatcher.getCommandTree(), loaded.getTree());
+        assertNotSame(second.getTree(), loaded.getTree());
+
+        assertFalse(commandDispatcher.loadSnapshot(snapshot, 1L, handlers, Collections::emptyList));
+        try {
+            commandDispatcher.parse("say hello");
+            fail("The snapshot was replaced by no commands");
+        }catch (CommandException expected) {
+        }
+    }
+
+    private ParseCache fill(ParseCache parseCache) throws CommandException {
+        parseCache.put("say a", tree.parse("say a"));
+        parseCache.put("say b", tree.parse("say b"));
+        assertNotNull(parseCache.get("say a", tree));
+        parseCache.put("say c", tree.parse("say c"));
+        assertEquals(1, parseCache.getEvictions());
+        return parseCache;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.exception.CommandException;
+import me.hippo.api.lumos.suggestion.SuggestionRanking;
+import me.hippo.api.lumos.tree.CommandTree;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class RankingTest {
+
+    @Test
+    public void ranksTheMostUsedLabelsFirst() throws CommandException {
+        CommandDispatcher commandDispatcher = CommandDispatcher.builder().suggestionRanking(SuggestionRanking.usageFrequency()).build();
+        for (String name : new String[] {"pa", "pb", "pc", "pd", "pe", "qa"}) {
+            commandDispatcher.register(label(name).executes(commandContext -> {}));
+        }
+
+        assertEquals(Arrays.asList("pa", "pb", "pc"), commandDispatcher.getSuggestions("p", 3));
+        execute(commandDispatcher, "pd", 3);
+        execute(commandDispatcher, "pb", 2);
+        execute(commandDispatcher, "pe", 2);
+        execute(commandDispatcher, "qa", 5);
+
+        assertEquals(Arrays.asList("pd", "pb", "pe", "pa", "pc"), commandDispatcher.getSuggestions("p", 10));
+        assertEquals(Arrays.asList("pd", "pb"), commandDispatcher.getSuggestions("p", 2));
+        assertEquals(Arrays.asList("pd", "pb", "pe"), commandDispatcher.getSuggestions("p", 3));
+        assertEquals(Collections.singletonList("qa"), commandDispatcher.getSuggestions("q", 3));
+    }
+
+    @Test
+    public void ranksNestedLabelsByTheirOwnUsages() throws CommandException {
+        CommandDispatcher commandDispatcher = CommandDispatcher.builder().suggestionRanking(SuggestionRanking.usageFrequency()).build();
+        commandDispatcher.register(label("hack").then(label("ping").executes(commandContext -> {})).then(label("proxy").executes(commandContext -> {})));
+        commandDispatcher.register(label("tool").then(label("proxy").executes(commandContext -> {})).then(label("ping").executes(commandContext -> {})));
+
+        execute(commandDispatcher, "hack proxy", 2);
+        execute(commandDispatcher, "tool ping", 1);
+
+        assertEquals(Arrays.asList("proxy", "ping"), commandDispatcher.getSuggestions("hack p", 2));
+        assertEquals(Arrays.asList("ping", "proxy"), commandDispatcher.getSuggestions("tool p", 2));
+        assertEquals(Arrays.asList("hack", "tool"), commandDispatcher.getSuggestions("", 2));
+    }
+
+    @Test
+    public void carriesUsagesOverToNewSnapshots() throws CommandException {
+        CommandDispatcher commandDispatcher = CommandDispatcher.builder().suggestionRanking(SuggestionRanking.usageFrequency()).build();
+        commandDispatcher.register(label("hack").then(label("ping").executes(commandContext -> {})).then(label("proxy").executes(commandContext -> {})));
+        CommandTree first = commandDispatcher.getCommandTree();
+        execute(commandDispatcher, "hack proxy", 2);
+
+        commandDispatcher.register(label("HACK").then(label("pong").executes(commandContext -> {})));
+        assertNotSame(first, commandDispatcher.getCommandTree());
+        assertNotSame(first.getRoot("hack"), commandDispatcher.get("hack"));
+        assertEquals(Arrays.asList("proxy", "ping", "pong"), commandDispatcher.getSuggestions("hack p", 3));
+
+        execute(commandDispatcher, "hack pong", 3);
+        assertEquals(Arrays.asList("pong", "proxy", "ping"), commandDispatcher.getSuggestions("hack p", 3));
+
+        commandDispatcher.execute(first.parse("hack ping"));
+        commandDispatcher.execute(first.parse("hack ping"));
+        commandDispatcher.execute(first.parse("hack ping"));
+        commandDispatcher.register(label("other").executes(commandContext -> {}));
+        assertEquals(Arrays.asList("ping", "pong", "proxy"), commandDispatcher.getSuggestions("hack p", 3));
+    }
+
+    @Test
+    public void ranksUnpreparedSnapshotsAlphabetically() throws CommandException {
+        SuggestionRanking ranking = SuggestionRanking.usageFrequency();
+        CommandDispatcher commandDispatcher = CommandDispatcher.builder().suggestionRanking(ranking).build();
+        commandDispatcher.register(label("pa").executes(commandContext -> {}));
+        commandDispatcher.register(label("pb").executes(commandContext -> {}));
+        execute(commandDispatcher, "pb", 1);
+
+        CommandTree detached = CommandTree.compile(commandDispatcher.getCommandTree().getRoots());
+        assertEquals(Arrays.asList("pa", "pb"), detached.getSuggestions("p", 2, ranking));
+        assertEquals(Arrays.asList("pb", "pa"), commandDispatcher.getSuggestions("p", 2));
+    }
+
+    private static void execute(CommandDispatcher commandDispatcher, String input, int times) throws CommandException {
+        for (int i = 0; i < times; i++) {
+            commandDispatcher.execute(input);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.ExecutionStatus;
+import me.hippo.api.lumos.exception.CommandRejectedException;
+import me.hippo.api.lumos.limit.RateLimiter;
+import me.hippo.api.lumos.source.CommandSource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class RateLimitTest {
+
+    @Test
+    public void limitsSourcesAndPaths() throws Exception {
+        CommandSource spammer = () -> "spammer";
+        CommandSource admin = () -> "admin";
+        RateLimiter rateLimiter = new RateLimiter()
+                .limitSources(0.001, 3)
+                .limitSource(admin, 0.001, 100)
+                .limitPath("server restart", 0.001, 1);
+        CommandDispatcher commandDispatcher = CommandDispatcher.builder().rateLimiter(rateLimiter).build();
+
+        List<String> sources = new ArrayList<>();
+        commandDispatcher.register(label("server")
+                .then(label("ping").executes(commandContext -> sources.add(commandContext.getSource().getName())))
+                .then(label("restart").then(argument("delay", number()).executes(commandContext -> {}))));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(ExecutionStatus.EXECUTED, commandDispatcher.execute(spammer, "server ping"));
+        }
+        assertEquals(ExecutionStatus.RATE_LIMITED, commandDispatcher.execute(spammer, "server ping"));
+        assertEquals(ExecutionStatus.RATE_LIMITED, commandDispatcher.execute(spammer, "not even parsed"));
+        assertEquals(ExecutionStatus.EXECUTED, commandDispatcher.execute(admin, "server ping"));
+        assertEquals("spammer", sources.get(0));
+        assertEquals("admin", sources.get(3));
+
+        assertEquals(ExecutionStatus.EXECUTED, commandDispatcher.execute(admin, "server restart 10"));
+        assertEquals(ExecutionStatus.RATE_LIMITED, commandDispatcher.execute(admin, "server restart 20"));
+        assertEquals(ExecutionStatus.EXECUTED, commandDispatcher.execute(admin, "server ping"));
+    }
+
+    @Test
+    public void turnsDownAsyncCommandsWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CommandDispatcher commandDispatcher = CommandDispatcher.builder()
+                .executor(Executors.newSingleThreadExecutor())
+                .maxPendingCommands(2)
+                .build();
+        commandDispatcher.register(label("block").executes(commandContext -> {
+            try {
+                release.await();
+            }catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        CompletableFuture<Void> first = commandDispatcher.executeAsync(CommandSource.CONSOLE, "block");
+        CompletableFuture<Void> second = commandDispatcher.executeAsync("block");
+        assertTrue(commandDispatcher.isSaturated());
+        CompletableFuture<Void> third = commandDispatcher.executeAsync(CommandSource.CONSOLE, "block");
+        try {
+            third.get();
+            fail();
+        }catch (ExecutionException e) {
+            assertSame(CommandRejectedException.SATURATED, e.getCause());
+        }
+
+        release.countDown();
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+        assertEquals(0, commandDispatcher.getPendingCount());
+        assertFalse(commandDispatcher.isSaturated());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.builder.CommandBuilder;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class RedirectTest {
+
+    @Test
+    public void aliasesShareTheTarget() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        CommandBuilder help = label("help").executes(commandContext -> executed.add("help"))
+                .then(label("topics").executes(commandContext -> executed.add("topics")));
+        commandDispatcher.register(help);
+        commandDispatcher.register(label("h").redirect(help));
+        commandDispatcher.register(label("?").redirect(help).executes(commandContext -> executed.add("?")));
+
+        commandDispatcher.execute("h");
+        commandDispatcher.execute("h topics");
+        commandDispatcher.execute("?");
+        commandDispatcher.execute("? topics");
+        assertEquals(Arrays.asList("help", "topics", "?", "topics"), executed);
+        assertEquals(Arrays.asList("topics"), commandDispatcher.getSuggestions("h "));
+        assertEquals(5, commandDispatcher.getCommandTree().size());
+    }
+
+    @Test
+    public void namesArgumentsAlongTheTakenPath() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        CommandBuilder ip = label("ip").then(label("ping").then(argument("ip", string())
+                .executes(commandContext -> executed.add((commandContext.hasArgument("name") ? commandContext.getString("name") + " " : "")
+                        + commandContext.getString("ip")))));
+        commandDispatcher.register(label("tool").then(ip));
+        commandDispatcher.register(label("player").then(argument("name", string()).then(ip)));
+
+        commandDispatcher.execute("tool ip ping hippo.com");
+        commandDispatcher.execute("player hippo ip ping hippo.com");
+        assertEquals(Arrays.asList("hippo.com", "hippo hippo.com"), executed);
+        assertTrue(commandDispatcher.getCommandTree().hasSharedNodes());
+        assertEquals(7, commandDispatcher.getCommandTree().size());
+    }
+
+    @Test
+    public void loopsBackOnItself() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        CommandBuilder execute = label("execute");
+        execute.then(label("as").then(argument("player", string()).redirect(execute)))
+                .then(label("run").then(label("say").then(argument("message", greedy())
+                        .executes(commandContext -> executed.add(commandContext.getString("player") + ": " + commandContext.getString("message"))))));
+        commandDispatcher.register(execute);
+
+        commandDispatcher.execute("execute as hippo as notch run say hi there");
+        assertEquals(Arrays.asList("notch: hi there"), executed);
+        assertEquals(Arrays.asList("as", "run"), commandDispatcher.getSuggestions("execute as hippo as notch "));
+        assertEquals(Arrays.asList("say"), commandDispatcher.getSuggestions("execute as hippo run "));
+    }
+
+    @Test
+    public void rejectsRedirectsWithChildren() {
+        CommandBuilder help = label("help");
+        try {
+            label("h").then(label("topics")).redirect(help);
+            fail();
+        }catch (IllegalArgumentException expected) {
+        }
+        try {
+            label("h").redirect(help).then(label("topics"));
+            fail();
+        }catch (IllegalArgumentException expected) {
+        }
+
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.register(label("h").redirect(help));
+        try {
+            commandDispatcher.register(label("h").then(label("topics")));
+            fail();
+        }catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.builder.CommandBuilder;
+import me.hippo.api.lumos.node.CommandNode;
+import me.hippo.api.lumos.tree.CommandTree;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class RegistrationTest {
+
+    @Test
+    public void mergesSharedRoots() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        commandDispatcher.register(label("admin").then(label("kick").then(argument("player", string())
+                .executes(commandContext -> executed.add("kick " + commandContext.getString("player"))))));
+
+        commandDispatcher.registerAll(Arrays.asList(
+                label("Admin").then(label("ban").executes(commandContext -> executed.add("ban"))),
+                label("admin").then(label("kick").then(argument("player", string()).then(argument("reason", string())
+                        .executes(commandContext -> executed.add("kick " + commandContext.getString("reason")))))),
+                label("help").executes(commandContext -> executed.add("help"))
+        ));
+
+        commandDispatcher.execute("admin kick hippo");
+        commandDispatcher.execute("admin kick hippo spam");
+        commandDispatcher.execute("admin ban");
+        commandDispatcher.execute("help");
+        assertEquals(Arrays.asList("kick hippo", "kick spam", "ban", "help"), executed);
+        assertEquals(Arrays.asList("ban", "kick"), commandDispatcher.getSuggestions("admin "));
+        assertEquals(2, commandDispatcher.getCommandTree().getRoots().size());
+    }
+
+    @Test
+    public void laterCommandsWin() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        commandDispatcher.register(label("ping").executes(commandContext -> executed.add("first")));
+        commandDispatcher.register(label("ping").executes(commandContext -> executed.add("second")));
+        commandDispatcher.execute("ping");
+        assertEquals(Arrays.asList("second"), executed);
+    }
+
+    @Test
+    public void compilesOnceForManyRegistrations() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        CommandTree empty = commandDispatcher.getCommandTree();
+        for (int i = 0; i < 1000; i++) {
+            commandDispatcher.register(label("command" + i).executes(commandContext -> {}));
+        }
+
+        CommandTree commandTree = commandDispatcher.getCommandTree();
+        assertNotSame(empty, commandTree);
+        assertSame(commandTree, commandDispatcher.getCommandTree());
+        assertEquals(1000, commandTree.getRoots().size());
+        commandDispatcher.execute("command999");
+
+        commandDispatcher.register(label("command0").then(label("sub").executes(commandContext -> {})));
+        assertNotSame(commandTree, commandDispatcher.getCommandTree());
+        commandDispatcher.execute("command0 sub");
+    }
+
+    @Test
+    public void rejectsInvalidBatches() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.register(label("give").then(argument("amount", number()).executes(commandContext -> {})));
+
+        try {
+            commandDispatcher.registerAll(Arrays.asList(
+                    label("fine").executes(commandContext -> {}),
+                    label("give").then(argument("amount", bool()).executes(commandContext -> {}))
+            ));
+            fail();
+        }catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("give amount"));
+        }
+        assertNull(commandDispatcher.get("fine"));
+
+        try {
+            commandDispatcher.register(label("  "));
+            fail();
+        }catch (IllegalArgumentException ignored) {
+        }
+
+        CommandBuilder loop = label("loop");
+        loop.then(label("again").then(loop));
+        try {
+            commandDispatcher.register(loop);
+            fail();
+        }catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("own descendant"));
+        }
+        commandDispatcher.execute("give 5");
+    }
+
+    @Test
+    public void registersInBulk() {
+        List<CommandBuilder> commands = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            commands.add(label("plugin" + (i % 50)).then(label("command" + i).executes(commandContext -> {})));
+        }
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.registerAll(commands);
+
+        assertEquals(50, commandDispatcher.getCommandTree().getRoots().size());
+        assertEquals(1 + 50 + 5000, commandDispatcher.getCommandTree().size());
+    }
+
+    @Test
+    public void readersNeverSeeHalfRegisteredCommands() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        AtomicInteger registered = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        Thread[] readers = new Thread[3];
+        for (int reader = 0; reader < readers.length; reader++) {
+            readers[reader] = new Thread(() -> {
+                Random random = new Random();
+                while (!done.get()) {
+                    try {
+                        int count = registered.get();
+                        if(count == 0) {
+                            continue;
+                        }
+                        int command = random.nextInt(count);
+                        commandDispatcher.parse("command" + command + " run " + command);
+                        commandDispatcher.parse("shared sub" + command);
+                        assertTrue(commandDispatcher.getSuggestions("command").size() >= count);
+                        assertTrue(commandDispatcher.getSuggestions("shared sub" + command).contains("sub" + command));
+
+                        CommandTree commandTree = commandDispatcher.getCommandTree();
+                        for (CommandNode root : commandTree.getRoots()) {
+                            if(root.getName().startsWith("command")) {
+                                commandTree.parse(root.getName() + " run 1");
+                            }
+                        }
+                    }catch (Throwable t) {
+                        failures.add(t);
+                        return;
+                    }
+                }
+            });
+            readers[reader].start();
+        }
+
+        try {
+            for (int i = 0; i < 300 && failures.isEmpty(); i++) {
+                commandDispatcher.registerAll(Arrays.asList(
+                        label("command" + i).then(label("run").then(argument("times", number()).executes(commandContext -> {}))),
+                        label("shared").then(label("sub" + i).executes(commandContext -> {}))
+                ));
+                registered.set(i + 1);
+            }
+        }finally {
+            done.set(true);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+
+        assertTrue(failures.toString(), failures.isEmpty());
+        assertEquals(301, commandDispatcher.getCommandTree().getRoots().size());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.replay.ReplayListener;
+import me.hippo.api.lumos.replay.ReplayReport;
+import me.hippo.api.lumos.replay.ScriptReplayer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class ReplayTest {
+
+    @Test
+    public void replaysAcrossChunks() throws IOException {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        commandDispatcher.register(label("say").then(argument("message", string()).executes(commandContext -> executed.add(commandContext.getString("message")))));
+
+        StringBuilder script = new StringBuilder("# restore script\n\n");
+        for (int i = 0; i < 100; i++) {
+            script.append("say line").append(i).append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        script.append("say h\u00e9llo\nmissing\n   \nsay last");
+        Path path = Files.createTempFile("lumos", ".txt");
+        Files.write(path, script.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<Long> failedLines = new ArrayList<>();
+        List<ReplayReport> progress = new ArrayList<>();
+        try {
+            ReplayReport report = new ScriptReplayer(commandDispatcher)
+                    .chunkSize(64)
+                    .progressInterval(50)
+                    .listener(new ReplayListener() {
+                        @Override
+                        public void onProgress(ReplayReport report) {
+                            progress.add(report);
+                        }
+
+                        @Override
+                        public void onFailure(long line, CharSequence input, Exception failure) {
+                            failedLines.add(line);
+                        }
+                    })
+                    .replay(path);
+
+            assertEquals(103, report.getCommands());
+            assertEquals(1, report.getFailures());
+            assertEquals(Files.size(path), report.getBytes());
+            assertEquals(1.0, report.getProgress(), 0);
+            assertEquals(102, executed.size());
+            assertEquals("line0", executed.get(0));
+            assertEquals("line99", executed.get(99));
+            assertEquals("h\u00e9llo", executed.get(100));
+            assertEquals("last", executed.get(101));
+            assertEquals(104L, (long) failedLines.get(0));
+            assertEquals(2, progress.size());
+        }finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsLinesLongerThanAChunk() throws IOException {
+        Path path = Files.createTempFile("lumos", ".txt");
+        try {
+            Files.write(path, "say a-very-long-line\nsay b\n".getBytes(StandardCharsets.US_ASCII));
+            new ScriptReplayer(new CommandDispatcher()).chunkSize(8).replay(path);
+        }finally {
+            Files.delete(path);
+        }
+    }
+}
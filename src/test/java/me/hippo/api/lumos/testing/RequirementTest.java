@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.exception.CommandNotFoundException;
+import me.hippo.api.lumos.source.CommandSource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class RequirementTest {
+
+    private static final long MODERATOR = 1L;
+    private static final long ADMIN = 1L << 1;
+
+    @Test
+    public void hidesNodesWithoutPermissions() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        commandDispatcher.register(label("kick").requires(MODERATOR)
+                .then(argument("player", string()).executes(commandContext -> executed.add("kick " + commandContext.getString("player")))));
+        commandDispatcher.register(label("ban").requires(MODERATOR | ADMIN)
+                .then(argument("player", string()).executes(commandContext -> executed.add("ban " + commandContext.getString("player")))));
+        commandDispatcher.register(label("help").executes(commandContext -> executed.add("help")));
+
+        Source user = new Source("user", 0L);
+        Source moderator = new Source("moderator", MODERATOR);
+
+        assertEquals(Arrays.asList("ban", "help", "kick"), commandDispatcher.getSuggestions(CommandSource.CONSOLE, "", 10));
+        assertEquals(Arrays.asList("help", "kick"), commandDispatcher.getSuggestions(moderator, "", 10));
+        assertEquals(Arrays.asList("help"), commandDispatcher.getSuggestions(user, "", 10));
+
+        commandDispatcher.execute(moderator, "kick hippo");
+        try {
+            commandDispatcher.execute(moderator, "ban hippo");
+            fail();
+        }catch (CommandNotFoundException e) {
+            assertFalse(e.getCorrections().contains("ban"));
+        }
+        try {
+            commandDispatcher.execute(moderator, commandDispatcher.parse("ban hippo"));
+            fail();
+        }catch (CommandNotFoundException ignored) {
+        }
+
+        moderator.grant(ADMIN);
+        commandDispatcher.execute(moderator, "ban hippo");
+        commandDispatcher.execute("ban console");
+        assertEquals(Arrays.asList("kick hippo", "ban hippo", "ban console"), executed);
+    }
+
+    @Test
+    public void fallsBackToVisibleArguments() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        commandDispatcher.register(label("warp")
+                .then(label("admin").requires(ADMIN).executes(commandContext -> executed.add("admin area")))
+                .then(argument("name", string()).executes(commandContext -> executed.add("warp " + commandContext.getString("name")))));
+
+        commandDispatcher.execute(new Source("admin", ADMIN), "warp admin");
+        commandDispatcher.execute(new Source("user", 0L), "warp admin");
+        assertEquals(Arrays.asList("admin area", "warp admin"), executed);
+    }
+
+    @Test
+    public void cachesPredicatesUntilPermissionsChange() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        AtomicInteger evaluations = new AtomicInteger();
+        commandDispatcher.register(label("fly").requires(source -> {
+            evaluations.incrementAndGet();
+            return (source.getPermissions() & ADMIN) != 0;
+        }).executes(commandContext -> {}));
+
+        Source source = new Source("player", ADMIN);
+        for (int i = 0; i < 10; i++) {
+            commandDispatcher.execute(source, "fly");
+            assertEquals(Arrays.asList("fly"), commandDispatcher.getSuggestions(source, "f", 10));
+        }
+        assertEquals(1, evaluations.get());
+
+        source.revoke(ADMIN);
+        assertTrue(commandDispatcher.getSuggestions(source, "f", 10).isEmpty());
+        assertEquals(2, evaluations.get());
+    }
+
+    /**
+     * A source whose permissions can change.
+     */
+    private static final class Source implements CommandSource {
+
+        private final String name;
+        private volatile long permissions;
+        private volatile long version;
+
+        private Source(String name, long permissions) {
+            this.name = name;
+            this.permissions = permissions;
+        }
+
+        private void grant(long permissions) {
+            this.permissions |= permissions;
+            version++;
+        }
+
+        private void revoke(long permissions) {
+            this.permissions &= ~permissions;
+            version++;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getPermissions() {
+            return permissions;
+        }
+
+        @Override
+        public long getPermissionVersion() {
+            return version;
+        }
+    }
+}
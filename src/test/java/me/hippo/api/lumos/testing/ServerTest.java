@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.server.CommandServer;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class ServerTest {
+
+    @Test
+    public void answersPipelinedCommandsInOrder() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        AtomicLong total = new AtomicLong();
+        commandDispatcher.register(label("add").then(argument("amount", number()).executes(commandContext -> total.addAndGet(commandContext.getLong("amount")))));
+        commandDispatcher.register(label("fail").executes(commandContext -> {
+            throw new IllegalStateException("failed");
+        }));
+
+        try (CommandServer commandServer = CommandServer.start(commandDispatcher, 0)) {
+            List<Socket> clients = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                clients.add(new Socket(commandServer.getAddress().getAddress(), commandServer.getAddress().getPort()));
+            }
+
+            StringBuilder pipeline = new StringBuilder();
+            for (int i = 0; i < 500; i++) {
+                pipeline.append("add 1\n");
+            }
+            pipeline.append("fail\r\nad 1\nadd one\n");
+            for (Socket client : clients) {
+                OutputStream output = client.getOutputStream();
+                byte[] bytes = pipeline.toString().getBytes(StandardCharsets.US_ASCII);
+                output.write(bytes, 0, 7);
+                output.flush();
+                output.write(bytes, 7, bytes.length - 7);
+                output.flush();
+            }
+
+            for (Socket client : clients) {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.US_ASCII));
+                for (int i = 0; i < 500; i++) {
+                    assertEquals("OK", reader.readLine());
+                }
+                assertEquals("ERR IllegalStateException: failed", reader.readLine());
+                assertTrue(reader.readLine().startsWith("ERR CommandNotFoundException: Command for input ad 1 not found. (did you mean add?)"));
+                assertTrue(reader.readLine().startsWith("ERR CommandSyntaxException"));
+                client.close();
+            }
+            assertEquals(2000, total.get());
+        }
+    }
+
+    @Test
+    public void skipsLinesThatAreTooLong() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.register(label("ping").executes(commandContext -> {}));
+
+        try (CommandServer commandServer = CommandServer.start(commandDispatcher, 0);
+             Socket client = new Socket(commandServer.getAddress().getAddress(), commandServer.getAddress().getPort())) {
+            OutputStream output = client.getOutputStream();
+            output.write(String.join("", Collections.nCopies(100_000, "x")).getBytes(StandardCharsets.US_ASCII));
+            output.write("\nping\n".getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.US_ASCII));
+            assertTrue(reader.readLine().startsWith("ERR line longer than"));
+            assertEquals("OK", reader.readLine());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.Command;
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.builder.CommandBuilder;
+import me.hippo.api.lumos.source.CommandSource;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class SnapshotTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<String> executed = new ArrayList<>();
+
+    private final Map<String, Command> handlers = new HashMap<>();
+
+    public SnapshotTest() {
+        handlers.put("hack tool <user>", commandContext -> executed.add("hack " + commandContext.getString("user")));
+        handlers.put("hack tool ip ping <ip>", commandContext -> executed.add("ping " + commandContext.getString("ip")));
+        handlers.put("give <amount>", commandContext -> executed.add("give " + commandContext.getInt("amount")));
+        handlers.put("admin stop", commandContext -> executed.add("stop"));
+    }
+
+    private Collection<CommandBuilder> commands() {
+        return Arrays.asList(
+                label("hack").then(label("tool")
+                        .then(argument("user", string()).executes(handlers.get("hack tool <user>")))
+                        .then(label("ip").then(label("ping").then(argument("ip", string()).executes(handlers.get("hack tool ip ping <ip>")))))),
+                label("give").then(argument("amount", number()).executes(handlers.get("give <amount>"))),
+                label("admin").requires(1L).then(label("stop").executes(handlers.get("admin stop")))
+        );
+    }
+
+    @Test
+    public void loadsWhatWasWritten() throws Exception {
+        Path snapshot = temporaryFolder.getRoot().toPath().resolve("commands.bin");
+        assertFalse(new CommandDispatcher().loadSnapshot(snapshot, 42L, handlers, this::commands));
+        assertTrue(Files.exists(snapshot));
+
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        assertTrue(commandDispatcher.loadSnapshot(snapshot, 42L, handlers, () -> {
+            throw new AssertionError("The snapshot should have been loaded");
+        }));
+
+        commandDispatcher.execute("hack tool hippo");
+        commandDispatcher.execute("HACK tool ip ping hippo.com");
+        commandDispatcher.execute("give 5");
+        commandDispatcher.execute("admin stop");
+        assertEquals(Arrays.asList("hack hippo", "ping hippo.com", "give 5", "stop"), executed);
+
+        assertEquals(Arrays.asList("admin", "give", "hack"), commandDispatcher.getSuggestions(""));
+        assertEquals(Arrays.asList("give", "hack"), commandDispatcher.getSuggestions(new Source(0L), "", 10));
+        assertEquals(Arrays.asList("ip"), commandDispatcher.getSuggestions("hack tool i"));
+
+        commandDispatcher.register(label("give").then(label("all").executes(commandContext -> executed.add("give all"))));
+        commandDispatcher.execute("give all");
+        commandDispatcher.execute("give 7");
+        assertEquals(Arrays.asList("give all", "give 7"), executed.subList(4, 6));
+    }
+
+    @Test
+    public void rebuildsStaleSnapshots() throws Exception {
+        Path snapshot = temporaryFolder.getRoot().toPath().resolve("commands.bin");
+        new CommandDispatcher().loadSnapshot(snapshot, 1L, handlers, this::commands);
+
+        assertFalse(new CommandDispatcher().loadSnapshot(snapshot, 2L, handlers, this::commands));
+        assertTrue(new CommandDispatcher().loadSnapshot(snapshot, 2L, handlers, this::commands));
+
+        Map<String, Command> fewer = new HashMap<>(handlers);
+        fewer.remove("admin stop");
+        assertFalse(new CommandDispatcher().loadSnapshot(snapshot, 2L, fewer, this::commands));
+
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(snapshot, bytes);
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        assertFalse(commandDispatcher.loadSnapshot(snapshot, 2L, handlers, this::commands));
+        commandDispatcher.execute("give 3");
+        assertEquals(Arrays.asList("give 3"), executed);
+
+        Files.write(snapshot, Arrays.copyOf(bytes, 20));
+        assertFalse(new CommandDispatcher().loadSnapshot(snapshot, 2L, handlers, this::commands));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesRequirementPredicates() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.register(label("secret").requires(source -> false).executes(commandContext -> {}));
+        commandDispatcher.saveSnapshot(temporaryFolder.getRoot().toPath().resolve("commands.bin"), 0L);
+    }
+
+    private static final class Source implements CommandSource {
+
+        private final long permissions;
+
+        private Source(long permissions) {
+            this.permissions = permissions;
+        }
+
+        @Override
+        public String getName() {
+            return "source";
+        }
+
+        @Override
+        public long getPermissions() {
+            return permissions;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.CommandDispatcher;
+import me.hippo.api.lumos.exception.CommandSyntaxException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static me.hippo.api.lumos.builder.CommandBuilder.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class StringArgumentTest {
+
+    @Test
+    public void greedyKeepsWhitespace() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        commandDispatcher.register(label("say").then(argument("message", greedy())
+                .executes(commandContext -> executed.add(commandContext.getString("message")))));
+        commandDispatcher.register(label("tell").then(argument("player", string()).then(argument("message", greedy())
+                .executes(commandContext -> executed.add(commandContext.getString("player") + ": " + commandContext.getString("message"))))));
+
+        commandDispatcher.execute("say hello   there\tworld ");
+        commandDispatcher.execute("tell hippo  hi  ");
+        assertEquals(Arrays.asList("hello   there\tworld ", "hippo: hi  "), executed);
+    }
+
+    @Test
+    public void quotedUnescapes() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        commandDispatcher.register(label("broadcast").then(argument("title", quoted()).then(argument("body", quoted())
+                .executes(commandContext -> executed.add(commandContext.getString("title") + "|" + commandContext.getString("body"))))));
+
+        commandDispatcher.execute("broadcast \"big  news\" 'it\\'s here'");
+        commandDispatcher.execute("broadcast \"a \\\"quote\\\" and \\\\\" \"\"");
+        assertEquals(Arrays.asList("big  news|it's here", "a \"quote\" and \\|"), executed);
+    }
+
+    @Test
+    public void quotedFallsBackToWords() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        commandDispatcher.register(label("name").then(argument("word", string())
+                .executes(commandContext -> executed.add("word " + commandContext.getString("word")))));
+        commandDispatcher.register(label("name").then(argument("quoted", quoted())
+                .executes(commandContext -> executed.add("quoted " + commandContext.getString("quoted")))));
+
+        commandDispatcher.execute("name \"two words\"");
+        commandDispatcher.execute("name plain");
+        assertEquals(Arrays.asList("quoted two words", "word plain"), executed);
+    }
+
+    @Test
+    public void rejectsBadQuotes() {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        commandDispatcher.register(label("say").then(argument("message", quoted()).executes(commandContext -> {})));
+
+        for (String input : new String[] {"say \"unterminated", "say \"bad \\escape\"", "say \"glued\"text", "say plain"}) {
+            try {
+                commandDispatcher.execute(input);
+                fail(input);
+            }catch (CommandSyntaxException expected) {
+            }catch (Exception e) {
+                throw new AssertionError(input, e);
+            }
+        }
+    }
+
+    @Test
+    public void capturesLongPayloads() throws Exception {
+        CommandDispatcher commandDispatcher = new CommandDispatcher();
+        List<String> executed = new ArrayList<>();
+        commandDispatcher.register(label("say").then(argument("message", greedy())
+                .executes(commandContext -> executed.add(commandContext.getString("message")))));
+
+        StringBuilder payload = new StringBuilder();
+        while (payload.length() < 1 << 16) {
+            payload.append("word ").append(payload.length() % 7 == 0 ? "  " : "");
+        }
+        commandDispatcher.execute("say " + payload);
+        assertEquals(payload.toString(), executed.get(0));
+    }
+}
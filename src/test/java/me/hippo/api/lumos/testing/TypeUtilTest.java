@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 Hippo
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package me.hippo.api.lumos.testing;
+
+import me.hippo.api.lumos.util.TypeUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Hippo
+ * @version 1.2.0, 10/18/2026
+ * @since 1.2.0
+ */
+public final class TypeUtilTest {
+
+    private static final String[] LONGS = {
+            "0", "-0", "+0", "7", "+7", "-7", "007", "-007", "+007",
+            "9223372036854775807", "-9223372036854775808",
+            "9223372036854775806", "-9223372036854775807",
+            "09223372036854775807", "-0009223372036854775808", "00000000000000000000000000001",
+            "2147483647", "-2147483648", "2147483648", "-2147483649"
+    };
+
+    private static final String[] NOT_LONGS = {
+            "9223372036854775808", "-9223372036854775809", "09223372036854775808", "99999999999999999999",
+            "", "-", "+", "--1", "+-1", "1-", "1.0", "1e3", " 1", "0x10"
+    };
+
+    private static final String[] DOUBLES = {
+            "0", "-0", "+0", "0.0", "-0.0", "1", "-1", "+1", "007.50", "-00.25",
+            "1.", ".5", "-.5", "+1.",
+            "1e22", "1e23", "1e-22", "1e-23", "-1e22", "9e22", "9e-22", "1.5e22", "123456789012345e22",
+            "1E22", "1e+22", "1e022", "5e-324", "1e308", "1e309", "1e-400", "1e99999",
+            "123456789012345", "1234567890123456", "12345678901234567", "9007199254740993",
+            "0.1234567890123456789", "1234567890.123456789", "0.000000000000000000001",
+            "3.141592653589793", "2.718281828459045e-10",
+            "NaN", "+NaN", "-NaN", "Infinity", "+Infinity", "-Infinity"
+    };
+
+    private static final String[] NOT_DOUBLES = {
+            "", "-", "+", ".", "-.", "1e", "1e+", "1e-", "e1", ".e1", "--1", "+-1", "1.2.3",
+            "0x1p3", "0x10", "1d", "1f", "1D", "1F", "nan", "infinity", "Inf", " 1", "1 "
+    };
+
+    @Test
+    public void parsesLongsLikeTheJdk() {
+        for (String input : LONGS) {
+            long expected = Long.parseLong(input);
+            assertTrue(input, TypeUtil.isLong(input, 0, input.length()));
+            assertEquals(input, expected, TypeUtil.parseLong(input, 0, input.length()));
+            boolean isInt = expected >= Integer.MIN_VALUE && expected <= Integer.MAX_VALUE;
+            assertEquals(input, isInt, TypeUtil.isInt(input, 0, input.length()));
+            if(isInt) {
+                assertEquals(input, Integer.parseInt(input), TypeUtil.parseInt(input, 0, input.length()));
+            }
+        }
+    }
+
+    @Test
+    public void rejectsWhatTheJdkRejectsAsLongs() {
+        for (String input : NOT_LONGS) {
+            assertFalse(input, TypeUtil.isLong(input, 0, input.length()));
+            assertFalse(input, TypeUtil.isInt(input, 0, input.length()));
+            try {
+                Long.parseLong(input);
+                fail(input);
+            }catch (NumberFormatException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void parsesDoublesLikeTheJdk() {
+        for (String input : DOUBLES) {
+            long expected = Double.doubleToRawLongBits(Double.parseDouble(input));
+            assertTrue(input, TypeUtil.isDouble(input, 0, input.length()));
+            assertEquals(input, expected, Double.doubleToRawLongBits(TypeUtil.parseDouble(input, 0, input.length())));
+            assertEquals(input, expected, Double.doubleToRawLongBits(TypeUtil.parseDouble(input)));
+
+            String padded = "[" + input + "]";
+            assertTrue(input, TypeUtil.isDouble(padded, 1, padded.length() - 1));
+            assertEquals(input, expected, Double.doubleToRawLongBits(TypeUtil.parseDouble(padded, 1, padded.length() - 1)));
+        }
+    }
+
+    @Test
+    public void rejectsDoubleLookalikes() {
+        for (String input : NOT_DOUBLES) {
+            assertFalse(input, TypeUtil.isDouble(input, 0, input.length()));
+            assertNull(input, TypeUtil.parseDouble(input));
+        }
+    }
+
+    @Test
+    public void parsesBooleanWordsIgnoringCase() {
+        for (String input : new String[] {"true", "TRUE", "yes", "On"}) {
+            assertEquals(input, Boolean.TRUE, TypeUtil.parseBoolean(input));
+        }
+        for (String input : new String[] {"false", "False", "no", "OFF"}) {
+            assertEquals(input, Boolean.FALSE, TypeUtil.parseBoolean(input));
+        }
+        for (String input : new String[] {"", "t", "tru", "truee", "1", "0", "nope", "offf", "yes!"}) {
+            assertNull(input, TypeUtil.parseBoolean(input));
+            assertEquals(input, TypeUtil.NOT_A_BOOLEAN, TypeUtil.parseBoolean(input, 0, input.length()));
+        }
+        assertEquals(1, TypeUtil.parseBoolean("say yes now", 4, 7));
+    }
+}